@@ -0,0 +1,71 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+// 기존 운영 DB는 ddl-auto=update로 이미 컬럼/인덱스가 만들어져 있을 수 있어서
+// 없을 때만 추가하는 마이그레이션 공통 기능 (MySQL은 ADD COLUMN/CREATE INDEX IF NOT EXISTS를 지원하지 않음)
+public abstract class SchemaMigration extends BaseJavaMigration {
+
+    protected void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    protected void addColumnIfMissing(Connection connection, String table, String column, String definition) throws SQLException {
+        if (!columnExists(connection, table, column)) {
+            execute(connection, "ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        }
+    }
+
+    protected void createIndexIfMissing(Connection connection, String table, String index, String columns) throws SQLException {
+        if (!indexExists(connection, table, index)) {
+            execute(connection, "CREATE INDEX " + index + " ON " + table + " (" + columns + ")");
+        }
+    }
+
+    // MySQL의 유니크 제약은 같은 이름의 인덱스로 만들어짐
+    protected void addUniqueIfMissing(Connection connection, String table, String constraint, String columns) throws SQLException {
+        if (!indexExists(connection, table, constraint)) {
+            execute(connection, "ALTER TABLE " + table + " ADD CONSTRAINT " + constraint + " UNIQUE (" + columns + ")");
+        }
+    }
+
+    protected List<String> queryStrings(Connection connection, String sql) throws SQLException {
+        List<String> values = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+        }
+        return values;
+    }
+
+    private boolean columnExists(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(), table, column)) {
+            return columns.next();
+        }
+    }
+
+    private boolean indexExists(Connection connection, String table, String index) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, true)) {
+            while (indexes.next()) {
+                if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,21 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+
+// 기준 스키마(V1) 이후 추가된 집계 컬럼
+// - project: 하위작업 개수 카운터 (null이면 조회 시 재계산)
+// - user_tag: 소요율 누적 집계와 이동 평균 (null이면 조회 시 재계산)
+public class V1_1__Project_counters_and_user_tag_aggregates extends SchemaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        addColumnIfMissing(connection, "project", "sub_task_total_count", "INT");
+        addColumnIfMissing(connection, "project", "sub_task_done_count", "INT");
+        addColumnIfMissing(connection, "user_tag", "sample_count", "INT");
+        addColumnIfMissing(connection, "user_tag", "rate_sum", "DOUBLE");
+        addColumnIfMissing(connection, "user_tag", "decayed_rate", "FLOAT");
+    }
+}
@@ -0,0 +1,86 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+// 조회 경로에 맞춘 인덱스와 중복 방지 유니크 제약
+// ddl-auto=update로 운영하던 DB에는 엔티티에 선언된 같은 이름의 인덱스가 이미 있을 수 있어서 없을 때만 만든다.
+public class V2__Indexes_and_constraints extends SchemaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        // 사용자 계정은 자동으로 합칠 수 없으므로 중복이 있으면 아무것도 바꾸기 전에 중단
+        checkNoDuplicateUsers(connection, "login_id");
+        checkNoDuplicateUsers(connection, "email");
+
+        // 유니크 제약 전에 중복 데이터 정리 (가장 먼저 만들어진 행 유지)
+        execute(connection, """
+                UPDATE project
+                SET project_tag_id = (
+                    SELECT MIN(t2.project_tag_id)
+                    FROM project_tag t1
+                    JOIN project_tag t2 ON t2.user_id = t1.user_id AND t2.project_tag_name = t1.project_tag_name
+                    WHERE t1.project_tag_id = project.project_tag_id
+                )
+                """);
+        execute(connection, """
+                DELETE FROM project_tag
+                WHERE project_tag_id NOT IN (
+                    SELECT keep_id FROM (
+                        SELECT MIN(project_tag_id) AS keep_id FROM project_tag GROUP BY user_id, project_tag_name
+                    ) kept
+                )
+                """);
+        execute(connection, """
+                DELETE FROM user_tag
+                WHERE user_tag_id NOT IN (
+                    SELECT keep_id FROM (
+                        SELECT MIN(user_tag_id) AS keep_id FROM user_tag GROUP BY user_id, sub_task_tag
+                    ) kept
+                )
+                """);
+        execute(connection, """
+                DELETE FROM user_item
+                WHERE user_item_id NOT IN (
+                    SELECT keep_id FROM (
+                        SELECT MIN(user_item_id) AS keep_id FROM user_item GROUP BY user_id, item_id
+                    ) kept
+                )
+                """);
+        execute(connection, "UPDATE project SET last_accessed_at = CURRENT_TIMESTAMP WHERE last_accessed_at IS NULL");
+
+        // 회원가입/로그인/토큰 재발급
+        addUniqueIfMissing(connection, "users", "uk_users_login_id", "login_id");
+        addUniqueIfMissing(connection, "users", "uk_users_email", "email");
+        createIndexIfMissing(connection, "users", "idx_users_refresh_token", "refresh_token");
+
+        // 프로젝트 목록/필터/최근 프로젝트
+        // 최근 프로젝트는 상태가 DONE이 아닌 첫 행만 필요해서 접속 시각 역순으로 바로 읽도록 상태를 넣지 않음
+        createIndexIfMissing(connection, "project", "idx_project_user_last_accessed", "user_id, last_accessed_at");
+        createIndexIfMissing(connection, "project", "idx_project_user_status_deadline", "user_id, project_status, project_deadline");
+        createIndexIfMissing(connection, "project", "idx_project_user_tag_deadline", "user_id, project_tag_id, project_deadline");
+        createIndexIfMissing(connection, "project", "idx_project_user_progress", "user_id, project_progress_rate");
+        createIndexIfMissing(connection, "project", "idx_project_user_name", "user_id, project_name");
+
+        // 프로젝트별 하위작업 (순서대로 조회)
+        createIndexIfMissing(connection, "sub_task", "idx_sub_task_project_order", "project_id, sub_task_order");
+
+        addUniqueIfMissing(connection, "project_tag", "uk_project_tag_user_name", "user_id, project_tag_name");
+        addUniqueIfMissing(connection, "user_tag", "uk_user_tag_user_tag", "user_id, sub_task_tag");
+        addUniqueIfMissing(connection, "user_item", "uk_user_item_user_item", "user_id, item_id");
+    }
+
+    private void checkNoDuplicateUsers(Connection connection, String column) throws SQLException {
+        List<String> duplicates = queryStrings(connection,
+                "SELECT " + column + " FROM users WHERE " + column + " IS NOT NULL GROUP BY " + column + " HAVING COUNT(*) > 1");
+        if (!duplicates.isEmpty()) {
+            throw new IllegalStateException("users." + column + " 값이 중복된 계정이 있어 유니크 제약을 추가할 수 없습니다. "
+                    + "중복 계정을 정리한 뒤 다시 배포해주세요: " + duplicates);
+        }
+    }
+}
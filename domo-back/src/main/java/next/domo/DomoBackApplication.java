@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @OpenAPIDefinition(info = @Info(title = "DoMo API", version = "v1"))
@@ -11,7 +12,13 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableScheduling
 public class DomoBackApplication {
 
+    // 시작 단계 기록 최대 개수 (/actuator/startup, POST 요청은 기록을 비우므로 관리자 계정만 접근)
+    private static final int STARTUP_STEP_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(DomoBackApplication.class, args);
+        SpringApplication application = new SpringApplication(DomoBackApplication.class);
+        // 빈 생성 등 시작 단계별 소요 시간을 기록해서 actuator로 조회
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
-}
\ No newline at end of file
+}
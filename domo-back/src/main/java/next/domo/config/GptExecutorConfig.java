@@ -0,0 +1,28 @@
+package next.domo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class GptExecutorConfig {
+
+    // GPT 호출 전용 스레드 풀 (Tomcat 요청 스레드와 분리)
+    // 큐가 가득 차면 TaskRejectedException으로 즉시 거절해서 요청이 쌓이지 않도록 한다.
+    @Bean(name = "gptTaskExecutor")
+    public ThreadPoolTaskExecutor gptTaskExecutor(
+            @Value("${openai.executor.core-size:4}") int coreSize,
+            @Value("${openai.executor.max-size:8}") int maxSize,
+            @Value("${openai.executor.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("gpt-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
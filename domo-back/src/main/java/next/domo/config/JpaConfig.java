@@ -0,0 +1,26 @@
+package next.domo.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // JDBC 배치 설정 (spring.jpa.properties로 직접 지정한 값이 있으면 그 값을 사용)
+    // IDENTITY 키 엔티티의 INSERT는 배치되지 않지만 UPDATE/DELETE와 JdbcTemplate 배치 경로에 적용된다.
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc.batch-size:50}") int batchSize,
+                                                             @Value("${jpa.default-batch-fetch-size:100}") int batchFetchSize) {
+        return properties -> {
+            // 지연 로딩 연관관계(Project.user, SubTask.project, UserItem.item 등)를 IN 절로 묶어서 조회
+            properties.putIfAbsent(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, batchFetchSize);
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package next.domo.config;
+
+import next.domo.upload.storage.LocalObjectStorage;
+import next.domo.upload.storage.ObjectStorage;
+import next.domo.upload.storage.S3ObjectStorage;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.nio.file.Path;
+
+@Configuration
+public class ObjectStorageConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+    static class S3StorageConfig {
+
+        // 업로드마다 클라이언트를 만들지 않고 하나를 공유 (종료 시 close)
+        @Bean(destroyMethod = "close")
+        public S3AsyncClient s3AsyncClient(
+                @Value("${cloud.aws.credentials.access-key}") String accessKey,
+                @Value("${cloud.aws.credentials.secret-key}") String secretKey,
+                @Value("${cloud.aws.region.static}") String region,
+                @Value("${storage.s3.crt-enabled:true}") boolean crtEnabled,
+                @Value("${storage.s3.max-concurrency:32}") int maxConcurrency,
+                @Value("${storage.s3.target-throughput-gbps:5.0}") double targetThroughputGbps,
+                @Value("${storage.s3.part-size-mb:8}") long partSizeMb) {
+            StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(accessKey, secretKey));
+
+            if (!crtEnabled) {
+                return S3AsyncClient.builder()
+                        .region(Region.of(region))
+                        .credentialsProvider(credentials)
+                        .build();
+            }
+            // CRT 클라이언트: 큰 파일은 partSize 단위로 나눠 병렬 multipart 업로드
+            return S3AsyncClient.crtBuilder()
+                    .region(Region.of(region))
+                    .credentialsProvider(credentials)
+                    .maxConcurrency(maxConcurrency)
+                    .targetThroughputInGbps(targetThroughputGbps)
+                    .minimumPartSizeInBytes(partSizeMb * 1024 * 1024)
+                    .build();
+        }
+
+        @Bean
+        public ObjectStorage objectStorage(S3AsyncClient s3AsyncClient,
+                                           @Value("${cloud.aws.s3.bucket}") String bucket,
+                                           @Value("${cloud.aws.region.static}") String region) {
+            return new S3ObjectStorage(s3AsyncClient, bucket, region);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "storage.type", havingValue = "local")
+    static class LocalStorageConfig implements WebMvcConfigurer {
+
+        @Value("${storage.local.root:./storage}")
+        private String root;
+
+        @Bean(name = "localStorageExecutor")
+        public ThreadPoolTaskExecutor localStorageExecutor(@Value("${storage.local.threads:4}") int threads) {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(threads);
+            executor.setMaxPoolSize(threads);
+            executor.setThreadNamePrefix("local-storage-");
+            executor.initialize();
+            return executor;
+        }
+
+        @Bean
+        public ObjectStorage objectStorage(@Qualifier("localStorageExecutor") ThreadPoolTaskExecutor localStorageExecutor,
+                                           @Value("${storage.local.base-url:/files}") String baseUrl) {
+            return new LocalObjectStorage(Path.of(root), baseUrl, localStorageExecutor);
+        }
+
+        // 저장된 파일을 /files/** 로 제공
+        @Override
+        public void addResourceHandlers(ResourceHandlerRegistry registry) {
+            registry.addResourceHandler("/files/**")
+                    .addResourceLocations(Path.of(root).toAbsolutePath().normalize().toUri().toString());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package next.domo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import next.domo.gpt.client.OpenAiClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@ConditionalOnProperty(name = "ai.provider", havingValue = "openai", matchIfMissing = true)
+public class OpenAiClientConfig {
+
+    private static final Duration CALL_TIMEOUT_MARGIN = Duration.ofSeconds(1);
+
+    // OpenAI 호출 전용 커넥션 풀
+    // 유휴 커넥션은 주기적으로 정리해서 서버 쪽에서 끊긴 커넥션을 재사용하지 않도록 한다.
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openAiConnectionProvider(
+            @Value("${openai.http.max-connections:50}") int maxConnections,
+            @Value("${openai.http.pending-acquire-max-count:100}") int pendingAcquireMaxCount,
+            @Value("${openai.http.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMillis,
+            @Value("${openai.http.max-idle-seconds:30}") long maxIdleSeconds,
+            @Value("${openai.http.max-life-minutes:5}") long maxLifeMinutes) {
+        return ConnectionProvider.builder("openai")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+                .maxLifeTime(Duration.ofMinutes(maxLifeMinutes))
+                .evictInBackground(Duration.ofSeconds(maxIdleSeconds))
+                .metrics(true)
+                .build();
+    }
+
+    // Spring이 구성한 WebClient.Builder를 사용해서 공용 ObjectMapper 코덱을 그대로 사용
+    @Bean(name = "openAiWebClient")
+    public WebClient openAiWebClient(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider openAiConnectionProvider,
+            @Value("${openai.api-key}") String apiKey,
+            @Value("${openai.base-url:https://api.openai.com/v1}") String baseUrl,
+            @Value("${openai.http.connect-timeout-ms:3000}") int connectTimeoutMillis,
+            @Value("${openai.http.response-timeout-seconds:60}") long responseTimeoutSeconds,
+            @Value("${openai.http.read-timeout-seconds:30}") int readTimeoutSeconds) {
+        HttpClient httpClient = HttpClient.create(openAiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds))
+                .compress(true)
+                // 스트리밍 중 조각 사이 대기 시간이 너무 길면 끊음
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeoutSeconds, TimeUnit.SECONDS)));
+
+        return webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+
+    // 호출하는 쪽(GPTService)이 block으로 기다리는 시간 안에 모든 시도와 백오프가 끝나도록 시도별 시간 초과를 정함
+    @Bean
+    public OpenAiClient openAiClient(
+            @Qualifier("openAiWebClient") WebClient openAiWebClient,
+            MeterRegistry meterRegistry,
+            @Value("${openai.timeout-seconds:60}") long callerTimeoutSeconds,
+            @Value("${openai.attempt-timeout-seconds:0}") long attemptTimeoutSeconds,
+            @Value("${openai.retry.max-attempts:1}") int maxRetryAttempts,
+            @Value("${openai.retry.min-backoff-ms:500}") long minBackoffMillis,
+            @Value("${openai.retry.max-backoff-ms:5000}") long maxBackoffMillis,
+            @Value("${openai.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${openai.circuit.open-seconds:30}") long openSeconds) {
+        // 호출하는 쪽보다 먼저 끝나도록 여유를 둠
+        Duration callTimeout = Duration.ofSeconds(callerTimeoutSeconds).minus(CALL_TIMEOUT_MARGIN);
+        // 지정하지 않으면(0) 최대 백오프를 뺀 남은 시간을 시도 횟수로 나눔
+        Duration attemptTimeout = attemptTimeoutSeconds > 0
+                ? Duration.ofSeconds(attemptTimeoutSeconds)
+                : callTimeout.minusMillis(maxBackoffMillis * maxRetryAttempts).dividedBy(maxRetryAttempts + 1);
+        if (attemptTimeout.isNegative() || attemptTimeout.isZero()
+                || attemptTimeout.multipliedBy(maxRetryAttempts + 1).plusMillis(maxBackoffMillis * maxRetryAttempts).compareTo(callTimeout) > 0) {
+            throw new IllegalStateException("openai.timeout-seconds 안에 재시도(openai.retry.max-attempts)가 모두 끝날 수 없습니다. 시간 초과 설정을 확인해주세요.");
+        }
+
+        return new OpenAiClient("openai", openAiWebClient, meterRegistry,
+                maxRetryAttempts, minBackoffMillis, maxBackoffMillis, failureThreshold, openSeconds,
+                attemptTimeout, callTimeout);
+    }
+}
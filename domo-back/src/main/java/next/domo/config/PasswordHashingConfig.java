@@ -0,0 +1,66 @@
+package next.domo.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import next.domo.user.password.BCryptCostCalibrator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Slf4j
+@Configuration
+public class PasswordHashingConfig {
+
+    // cost는 설정값으로 고정 (인스턴스마다 측정값이 달라지지 않도록 하고 시작 시간도 줄임)
+    // cost가 바뀌면 기존 해시는 다음 로그인 때 새 cost로 다시 저장된다.
+    // password.bcrypt.benchmark=true이면 시작 시 이 서버에서 목표 시간에 맞는 cost를 측정해서 로그로만 알려준다.
+    @Bean
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${password.bcrypt.strength:10}") int strength,
+                                           @Value("${password.bcrypt.benchmark:false}") boolean benchmark,
+                                           @Value("${password.bcrypt.target-ms:250}") long targetMillis,
+                                           @Value("${password.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${password.bcrypt.max-strength:14}") int maxStrength) {
+        if (benchmark) {
+            BCryptCostCalibrator.Result recommended = BCryptCostCalibrator.calibrate(targetMillis, minStrength, maxStrength);
+            BCryptCostCalibrator.Result current = new BCryptCostCalibrator.Result(strength, BCryptCostCalibrator.measure(strength));
+            log.info("BCrypt 측정: 현재 cost={} ({}ms/hash, 코어당 초당 {}건), 목표 {}ms 기준 권장 cost={} ({}ms/hash)",
+                    current.strength(), String.format("%.1f", current.millisPerHash()), String.format("%.1f", current.hashesPerSecondPerCore()),
+                    targetMillis, recommended.strength(), String.format("%.1f", recommended.millisPerHash()));
+            Gauge.builder("password.hash.capacity.per.core", current, BCryptCostCalibrator.Result::hashesPerSecondPerCore)
+                    .description("코어 하나가 초당 처리할 수 있는 비밀번호 해시 수")
+                    .register(meterRegistry);
+        }
+        log.info("BCrypt cost={}", strength);
+        Gauge.builder("password.hash.strength", () -> strength)
+                .register(meterRegistry);
+
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // 비밀번호 해시 전용 스레드 풀 (코어 수 이하로 제한, 큐가 가득 차면 TaskRejectedException)
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${password.hash.threads:0}") int threads,
+            @Value("${password.hash.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+        return executor;
+    }
+}
@@ -1,17 +1,26 @@
 package next.domo.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import next.domo.jwt.JwtAuthenticationFilter;
 import next.domo.jwt.JwtProvider;
-import next.domo.user.repository.UserRepository;
+import next.domo.jwt.RefreshTokenService;
+import next.domo.jwt.UserExistenceCache;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -24,16 +33,51 @@ import java.util.Arrays;
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
+    private static final String ACTUATOR_ADMIN_ROLE = "ACTUATOR_ADMIN";
+
     private final JwtProvider jwtProvider;
-    private final UserRepository userRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final UserExistenceCache userExistenceCache;
+
+    // actuator는 health만 공개하고 나머지는 관리자 계정(HTTP Basic)만 접근
+    // (일반 사용자 JWT로는 동기화 실행, 지표/시작 기록 조회를 할 수 없음)
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(csrf -> csrf.disable())
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .anyRequest().hasRole(ACTUATOR_ADMIN_ROLE))
+                .httpBasic(Customizer.withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        return http.build();
+    }
 
+    // 관리자 비밀번호는 BCrypt 해시로만 설정 (설정이 없으면 관리자 계정 없음)
     @Bean
+    public UserDetailsService actuatorAdminDetailsService(
+            @Value("${actuator.admin.username:admin}") String username,
+            @Value("${actuator.admin.password-hash:}") String passwordHash) {
+        if (passwordHash.isBlank()) {
+            return new InMemoryUserDetailsManager();
+        }
+        return new InMemoryUserDetailsManager(User.withUsername(username)
+                .password(passwordHash)
+                .roles(ACTUATOR_ADMIN_ROLE)
+                .build());
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable()) // CSRF 비활성화 (API 테스트용)
                 .authorizeHttpRequests(authorize -> authorize
-                        .requestMatchers("/", "/swagger-ui/**", "/v3/api-docs/**", "/v3/api-docs.yaml", "/swagger-ui.html", "/swagger-resources/**", "/webjars/**", "/api/user/signup", "/api/user/login", "/upload/glb"
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 인증된 요청의 비동기(SSE) 응답 재디스패치 허용
+                        .requestMatchers("/", "/swagger-ui/**", "/v3/api-docs/**", "/v3/api-docs.yaml", "/swagger-ui.html", "/swagger-resources/**", "/webjars/**", "/api/user/signup", "/api/user/login", "/upload/glb", "/files/**"
                 ).permitAll() // 스웨거 허용
                 .anyRequest().authenticated() // 나머지는 인증 필요
             )
@@ -42,14 +86,9 @@ public class SecurityConfig {
     return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationProcessingFilter() {
-        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProvider, userRepository);
+        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProvider, refreshTokenService, userExistenceCache);
         return jwtAuthenticationFilter;
     }
 
@@ -0,0 +1,47 @@
+package next.domo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.Arrays;
+
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+    // faststart 프로필: startup.lazy-bean-prefixes에 해당하는 클래스(또는 @Bean 메서드를 선언한 클래스)의 빈은 처음 사용할 때 생성
+    @Bean
+    @Profile("faststart")
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor(Environment environment) {
+        String[] prefixes = environment.getProperty("startup.lazy-bean-prefixes", String[].class, new String[0]);
+        return beanFactory -> {
+            int count = 0;
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                String className = declaringClassName(definition);
+                if (className != null && Arrays.stream(prefixes).anyMatch(className::startsWith)) {
+                    definition.setLazyInit(true);
+                    count++;
+                }
+            }
+            log.info("지연 생성으로 바꾼 빈 {}개 (prefixes={})", count, Arrays.toString(prefixes));
+        };
+    }
+
+    private static String declaringClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return definition.getBeanClassName();
+    }
+}
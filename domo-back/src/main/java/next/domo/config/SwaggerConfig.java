@@ -50,7 +50,8 @@ public class SwaggerConfig {
                                 "반환\n" +
                                 "\n" +
                                 "/api/user/signup, /api/user/login을 제외한 모든 api에서 accessToken을 Authorization 헤더에 담아 요청\n" +
-                                "accessToken 만료시, refreshToken을 Authorization-refresh 헤더에 담아 요청 -> Authorization 헤더로 accessToken 반환")
+                                "accessToken 만료시, refreshToken을 Authorization-refresh 헤더에 담아 요청 -> Authorization 헤더로 accessToken, Authorization-refresh 헤더로 새 refreshToken 반환\n" +
+                                "(재발급에 사용한 refreshToken은 더 이상 사용할 수 없으므로 새 refreshToken으로 교체해서 보관)")
                 );
     }
 }
\ No newline at end of file
@@ -1,89 +1,179 @@
 package next.domo.file;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import next.domo.file.dto.ItemStorageFiles;
+import next.domo.file.dto.ItemSyncResult;
 import next.domo.file.entity.Item;
 import next.domo.file.repository.ItemRepository;
-import org.springframework.beans.factory.annotation.Value;
+import next.domo.file.repository.ItemSyncRepository;
+import next.domo.file.service.ItemCatalog;
+import next.domo.upload.storage.ObjectStorage;
+import next.domo.upload.storage.StoredObject;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
-import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
-import software.amazon.awssdk.services.s3.model.S3Object;
 
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 저장소의 items/ 폴더와 item 테이블을 맞추는 동기화
+// 시작을 막지 않도록 별도 스레드에서 실행하고, 파일 URL/ETag가 바뀐 아이템만 반영한다.
+// 요청 처리에 필요 없는 빈이라 처음 사용할 때(준비 완료 후) 생성한다.
+@Slf4j
+@Lazy
 @Service
-@RequiredArgsConstructor
 public class ItemInitializerService {
 
     private final ItemRepository itemRepository;
+    private final ItemSyncRepository itemSyncRepository;
+    private final ItemCatalog itemCatalog;
+    private final ObjectStorage objectStorage;
 
-    @Value("${cloud.aws.credentials.access-key}")
-    private String accessKey;
+    private final String folder = "items";
 
-    @Value("${cloud.aws.credentials.secret-key}")
-    private String secretKey;
+    private final ExecutorService syncExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "item-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 진행 중인 동기화 (동시에 하나만 실행)
+    private final AtomicReference<CompletableFuture<ItemSyncResult>> running = new AtomicReference<>();
+    private volatile ItemSyncResult lastResult;
+    private volatile String lastError;
+
+    public ItemInitializerService(ItemRepository itemRepository, ItemSyncRepository itemSyncRepository,
+                                  ItemCatalog itemCatalog, ObjectStorage objectStorage) {
+        this.itemRepository = itemRepository;
+        this.itemSyncRepository = itemSyncRepository;
+        this.itemCatalog = itemCatalog;
+        this.objectStorage = objectStorage;
+    }
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    // 백그라운드 동기화 시작 (이미 진행 중이면 그 작업을 반환)
+    public CompletableFuture<ItemSyncResult> triggerSync() {
+        CompletableFuture<ItemSyncResult> future = new CompletableFuture<>();
+        CompletableFuture<ItemSyncResult> existing = running.compareAndExchange(null, future);
+        if (existing != null) {
+            return existing;
+        }
 
-    @Value("${cloud.aws.region.static}")
-    private String region;
+        syncExecutor.execute(() -> {
+            // 완료 통지 전에 진행 상태를 풀어서, 통지 직후 다시 요청하면 새 동기화가 시작되게 함
+            try {
+                ItemSyncResult result = syncItemsFromStorage();
+                lastResult = result;
+                lastError = null;
+                running.set(null);
+                future.complete(result);
+            } catch (RuntimeException e) {
+                log.error("아이템 동기화 실패", e);
+                lastError = e.getMessage();
+                running.set(null);
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
 
-    private final String folder = "items";
+    public boolean isRunning() {
+        return running.get() != null;
+    }
 
-    public void initializeItemsFromS3() {
-        S3Client s3 = S3Client.builder()
-                .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(
-                        AwsBasicCredentials.create(accessKey, secretKey)))
-                .build();
+    public ItemSyncResult getLastResult() {
+        return lastResult;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
 
-        ListObjectsV2Response response = s3.listObjectsV2(ListObjectsV2Request.builder()
-                .bucket(bucket)
-                .prefix(folder + "/")
-                .build());
+    ItemSyncResult syncItemsFromStorage() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<StoredObject> objects = objectStorage.list(folder + "/");
+        Map<String, ItemStorageFiles> filesByName = groupByItemName(objects);
 
-        Map<String, Item> itemMap = new HashMap<>();
+        Map<String, Item> existingByName = new HashMap<>();
+        for (Item item : itemRepository.findAll()) {
+            existingByName.putIfAbsent(item.getItemName(), item);
+        }
 
-        for (S3Object object : response.contents()) {
+        List<ItemStorageFiles> inserts = new ArrayList<>();
+        List<Map.Entry<Long, ItemStorageFiles>> updates = new ArrayList<>();
+        for (ItemStorageFiles files : filesByName.values()) {
+            Item existing = existingByName.get(files.itemName());
+            if (existing == null) {
+                inserts.add(files);
+                continue;
+            }
+
+            // 저장소에 없는 종류의 파일은 기존 값 유지
+            ItemStorageFiles merged = new ItemStorageFiles(files.itemName(),
+                    files.glbUrl() != null ? files.glbUrl() : existing.getItemImageUrl(),
+                    files.glbUrl() != null ? files.glbEtag() : existing.getItemImageEtag(),
+                    files.pngUrl() != null ? files.pngUrl() : existing.getItem2dImageUrl(),
+                    files.pngUrl() != null ? files.pngEtag() : existing.getItem2dImageEtag());
+            if (isChanged(existing, merged)) {
+                updates.add(new AbstractMap.SimpleImmutableEntry<>(existing.getItemId(), merged));
+            }
+        }
+
+        if (!inserts.isEmpty() || !updates.isEmpty()) {
+            itemSyncRepository.apply(inserts, updates);
+            // 동기화 결과로 카탈로그 스냅샷 교체
+            itemCatalog.refresh();
+        }
+
+        int unchanged = filesByName.size() - inserts.size() - updates.size();
+        ItemSyncResult result = new ItemSyncResult(objects.size(), inserts.size(), updates.size(), unchanged,
+                startedAt, LocalDateTime.now());
+        log.info("아이템 동기화 완료 files={}, inserted={}, updated={}, unchanged={}",
+                result.scannedFiles(), result.inserted(), result.updated(), result.unchanged());
+        return result;
+    }
+
+    // 같은 이름의 glb/png 파일을 아이템 하나로 묶음
+    private Map<String, ItemStorageFiles> groupByItemName(List<StoredObject> objects) {
+        Map<String, ItemStorageFiles> filesByName = new LinkedHashMap<>();
+        for (StoredObject object : objects) {
             String key = object.key();
             if (key.endsWith("/")) continue;
 
             String fileName = key.substring(key.lastIndexOf("/") + 1);
+            if (fileName.lastIndexOf('.') < 0) continue;
             String baseName = fileName.substring(0, fileName.lastIndexOf('.'));
-            String extension = fileName.substring(fileName.lastIndexOf('.') + 1); 
-
-            String url = "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
-
-            itemMap.putIfAbsent(baseName, Item.builder().itemName(baseName).build());
-
-            Item item = itemMap.get(baseName);
+            String extension = fileName.substring(fileName.lastIndexOf('.') + 1);
 
+            ItemStorageFiles files = filesByName.getOrDefault(baseName,
+                    new ItemStorageFiles(baseName, null, null, null, null));
             if (extension.equals("glb")) {
-                item = Item.builder()
-                        .itemName(baseName)
-                        .itemImageUrl(url)
-                        .item2dImageUrl(item.getItem2dImageUrl())
-                        .build();
+                files = files.withGlb(object.url(), object.eTag());
             } else if (extension.equals("png")) {
-                item = Item.builder()
-                        .itemName(baseName)
-                        .item2dImageUrl(url)
-                        .itemImageUrl(item.getItemImageUrl())
-                        .build();
+                files = files.withPng(object.url(), object.eTag());
             }
-
-            itemMap.put(baseName, item);
+            filesByName.put(baseName, files);
         }
+        return filesByName;
+    }
 
-        for (Item item : itemMap.values()) {
-            if (itemRepository.existsByItemName(item.getItemName())) continue;
-            itemRepository.save(item);
-        }
+    private boolean isChanged(Item item, ItemStorageFiles files) {
+        return !Objects.equals(item.getItemImageUrl(), files.glbUrl())
+                || !Objects.equals(item.getItemImageEtag(), files.glbEtag())
+                || !Objects.equals(item.getItem2dImageUrl(), files.pngUrl())
+                || !Objects.equals(item.getItem2dImageEtag(), files.pngEtag());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        syncExecutor.shutdownNow();
     }
 }
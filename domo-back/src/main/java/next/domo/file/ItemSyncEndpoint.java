@@ -0,0 +1,45 @@
+package next.domo.file;
+
+import lombok.RequiredArgsConstructor;
+import next.domo.file.dto.ItemSyncResult;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 아이템 동기화 상태 조회(GET)와 재실행(POST) (/actuator/itemsync)
+@Component
+@Endpoint(id = "itemsync")
+@RequiredArgsConstructor
+public class ItemSyncEndpoint {
+
+    // 엔드포인트는 시작 시 생성되므로 동기화 서비스는 호출할 때 꺼내서 사용
+    private final ObjectProvider<ItemInitializerService> itemInitializerServiceProvider;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        ItemInitializerService itemInitializerService = itemInitializerServiceProvider.getObject();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", itemInitializerService.isRunning());
+        ItemSyncResult lastResult = itemInitializerService.getLastResult();
+        if (lastResult != null) {
+            status.put("lastResult", lastResult);
+        }
+        String lastError = itemInitializerService.getLastError();
+        if (lastError != null) {
+            status.put("lastError", lastError);
+        }
+        return status;
+    }
+
+    // 완료를 기다리지 않고 바로 상태 반환
+    @WriteOperation
+    public Map<String, Object> sync() {
+        itemInitializerServiceProvider.getObject().triggerSync();
+        return status();
+    }
+}
@@ -0,0 +1,13 @@
+package next.domo.file.dto;
+
+// 저장소에서 읽은 아이템 하나의 파일 정보 (glb: 3D 모델, png: 2D 이미지)
+public record ItemStorageFiles(String itemName, String glbUrl, String glbEtag, String pngUrl, String pngEtag) {
+
+    public ItemStorageFiles withGlb(String url, String eTag) {
+        return new ItemStorageFiles(itemName, url, eTag, pngUrl, pngEtag);
+    }
+
+    public ItemStorageFiles withPng(String url, String eTag) {
+        return new ItemStorageFiles(itemName, glbUrl, glbEtag, url, eTag);
+    }
+}
@@ -0,0 +1,8 @@
+package next.domo.file.dto;
+
+import java.time.LocalDateTime;
+
+// 아이템 동기화 한 번의 결과
+public record ItemSyncResult(int scannedFiles, int inserted, int updated, int unchanged,
+                             LocalDateTime startedAt, LocalDateTime finishedAt) {
+}
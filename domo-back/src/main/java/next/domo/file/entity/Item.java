@@ -26,4 +26,14 @@ public class Item {
 
     private String item2dImageUrl;
 
+    // 저장소 동기화 시 변경 여부 비교용 ETag
+    private String itemImageEtag;
+
+    private String item2dImageEtag;
+
+    // 뽑기 가중치 (0이면 뽑기 대상 아님, 새 아이템은 직접 켜기 전까지 0)
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer drawWeight = 0;
+
 }
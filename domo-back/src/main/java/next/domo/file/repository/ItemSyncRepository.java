@@ -0,0 +1,57 @@
+package next.domo.file.repository;
+
+import lombok.RequiredArgsConstructor;
+import next.domo.file.dto.ItemStorageFiles;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+// 저장소 동기화로 바뀐 아이템만 JDBC batch로 한 번에 반영
+// (IDENTITY 키라서 JPA saveAll로는 INSERT가 batch로 묶이지 않음)
+@Repository
+@RequiredArgsConstructor
+public class ItemSyncRepository {
+
+    // draw_weight는 컬럼 기본값(0)을 따르므로 새 아이템은 뽑기에서 제외된 채로 추가된다.
+    private static final String INSERT_SQL = """
+            INSERT INTO item (item_name, item_image_url, item_image_etag, item2d_image_url, item2d_image_etag)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE item SET item_image_url = ?, item_image_etag = ?, item2d_image_url = ?, item2d_image_etag = ?
+            WHERE item_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jpa.jdbc.batch-size:50}")
+    private int batchSize;
+
+    @Transactional
+    public void apply(List<ItemStorageFiles> inserts, List<Map.Entry<Long, ItemStorageFiles>> updates) {
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts, batchSize, (ps, files) -> {
+                ps.setString(1, files.itemName());
+                ps.setString(2, files.glbUrl());
+                ps.setString(3, files.glbEtag());
+                ps.setString(4, files.pngUrl());
+                ps.setString(5, files.pngEtag());
+            });
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates, batchSize, (ps, update) -> {
+                ItemStorageFiles files = update.getValue();
+                ps.setString(1, files.glbUrl());
+                ps.setString(2, files.glbEtag());
+                ps.setString(3, files.pngUrl());
+                ps.setString(4, files.pngEtag());
+                ps.setLong(5, update.getKey());
+            });
+        }
+    }
+}
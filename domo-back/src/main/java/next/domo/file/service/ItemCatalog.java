@@ -0,0 +1,75 @@
+package next.domo.file.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import next.domo.file.dto.ItemResponseDto;
+import next.domo.file.entity.Item;
+import next.domo.file.repository.ItemRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 아이템 목록을 메모리에 들고 있는 카탈로그
+// 아이템은 저장소 동기화 때만 바뀌므로 조회 때마다 DB를 읽지 않고, 갱신 시 새 스냅샷을 만들어 통째로 교체한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemCatalog {
+
+    // 한 번 만들어지면 바뀌지 않는 카탈로그 (items의 순서가 보유 비트셋의 비트 위치)
+    public record Snapshot(long version, List<ItemResponseDto> items, Map<Long, Integer> indexById, ItemDrawTable drawTable) {
+
+        public Optional<ItemResponseDto> findById(Long itemId) {
+            Integer index = indexById.get(itemId);
+            return index == null ? Optional.empty() : Optional.of(items.get(index));
+        }
+
+        // 보유 아이템 id 목록을 카탈로그 위치 기준 비트셋으로 변환 (카탈로그에 없는 id는 무시)
+        public BitSet toOwnedBits(Collection<Long> ownedItemIds) {
+            BitSet owned = new BitSet(items.size());
+            for (Long itemId : ownedItemIds) {
+                Integer index = indexById.get(itemId);
+                if (index != null) {
+                    owned.set(index);
+                }
+            }
+            return owned;
+        }
+    }
+
+    private final ItemRepository itemRepository;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    public Snapshot current() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot : refresh();
+    }
+
+    // DB에서 다시 읽어 새 스냅샷으로 교체
+    public synchronized Snapshot refresh() {
+        List<Item> entities = itemRepository.findAll();
+        List<ItemResponseDto> items = entities.stream()
+                .map(ItemResponseDto::from)
+                .toList();
+
+        Map<Long, Integer> indexById = new HashMap<>();
+        int[] drawWeights = new int[entities.size()];
+        for (int i = 0; i < entities.size(); i++) {
+            indexById.put(entities.get(i).getItemId(), i);
+            drawWeights[i] = entities.get(i).getDrawWeight() == null ? 0 : entities.get(i).getDrawWeight();
+        }
+
+        Snapshot previous = current.get();
+        long version = previous == null ? 1 : previous.version() + 1;
+        Snapshot snapshot = new Snapshot(version, items, Map.copyOf(indexById), ItemDrawTable.of(drawWeights));
+        current.set(snapshot);
+        log.info("아이템 카탈로그 갱신 version={}, items={}", version, items.size());
+        return snapshot;
+    }
+}
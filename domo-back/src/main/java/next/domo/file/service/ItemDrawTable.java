@@ -0,0 +1,104 @@
+package next.domo.file.service;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.random.RandomGenerator;
+
+// 아이템 뽑기용 가중치 테이블 (Vose alias method)
+// 카탈로그 스냅샷과 함께 한 번 만들어두고, 뽑기 한 번은 난수 두 개로 O(1)에 끝난다.
+public final class ItemDrawTable {
+
+    // 보유 아이템에 걸려서 다시 뽑는 최대 횟수 (넘으면 남은 후보에서 직접 선택)
+    private static final int MAX_REJECTIONS = 16;
+
+    private final int[] weights;
+    private final double[] probability;
+    private final int[] alias;
+
+    private ItemDrawTable(int[] weights, double[] probability, int[] alias) {
+        this.weights = weights;
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    public static ItemDrawTable of(int[] weights) {
+        int n = weights.length;
+        long totalWeight = 0;
+        for (int weight : weights) {
+            totalWeight += Math.max(weight, 0);
+        }
+
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        if (totalWeight == 0) {
+            return new ItemDrawTable(weights.clone(), probability, alias);
+        }
+
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = (double) Math.max(weights[i], 0) * n / totalWeight;
+            (scaled[i] < 1.0 ? small : large).push(i);
+        }
+
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            (scaled[more] < 1.0 ? small : large).push(more);
+        }
+        // 부동소수 오차로 남은 칸은 자기 자신을 그대로 선택
+        while (!large.isEmpty()) {
+            probability[large.pop()] = 1.0;
+        }
+        while (!small.isEmpty()) {
+            probability[small.pop()] = 1.0;
+        }
+        return new ItemDrawTable(weights.clone(), probability, alias);
+    }
+
+    // excluded에 없는 아이템 하나의 위치를 가중치 비율대로 선택 (후보가 없으면 -1)
+    public int draw(RandomGenerator random, BitSet excluded) {
+        int n = weights.length;
+        if (n == 0) {
+            return -1;
+        }
+
+        for (int attempt = 0; attempt < MAX_REJECTIONS; attempt++) {
+            int column = random.nextInt(n);
+            int index = random.nextDouble() < probability[column] ? column : alias[column];
+            if (weights[index] > 0 && !excluded.get(index)) {
+                return index;
+            }
+        }
+        return drawFromRemaining(random, excluded);
+    }
+
+    // 대부분을 이미 보유한 경우: 남은 후보의 가중치 합에서 직접 선택
+    private int drawFromRemaining(RandomGenerator random, BitSet excluded) {
+        long remainingWeight = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0 && !excluded.get(i)) {
+                remainingWeight += weights[i];
+            }
+        }
+        if (remainingWeight == 0) {
+            return -1;
+        }
+
+        long target = random.nextLong(remainingWeight);
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0 && !excluded.get(i)) {
+                target -= weights[i];
+                if (target < 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+}
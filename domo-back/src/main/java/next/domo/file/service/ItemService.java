@@ -4,8 +4,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import next.domo.file.dto.ItemResponseDto;
-import next.domo.file.entity.Item;
-import next.domo.file.repository.ItemRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,17 +11,13 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class ItemService {
-    private final ItemRepository itemRepository;
+    private final ItemCatalog itemCatalog;
     public List<ItemResponseDto> getAllItems() {
-        return itemRepository.findAll().stream()
-                .map(ItemResponseDto::from)
-                .toList();
+        return itemCatalog.current().items();
     }
 
     public ItemResponseDto getItem(Long itemId) {
-        Item item = itemRepository.findById(itemId)
+        return itemCatalog.current().findById(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 item이 존재하지 않습니다."));
-
-        return ItemResponseDto.from(item);
     }
 }
@@ -0,0 +1,18 @@
+package next.domo.gpt.client;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+// GPTService가 사용하는 채팅 완성 모델 제공자
+// ai.provider 설정으로 구현체를 고른다. (openai: 실제 OpenAI, stub: 내장 스텁 서버)
+public interface AiCompletionProvider {
+
+    // role/content 메시지 목록을 보내고 모델 응답 본문(content)만 반환
+    Mono<String> complete(List<Map<String, Object>> messages);
+
+    // 스트리밍 모드로 호출하고 응답 본문 조각을 순서대로 반환
+    Flux<String> streamComplete(List<Map<String, Object>> messages);
+}
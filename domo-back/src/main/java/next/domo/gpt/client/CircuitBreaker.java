@@ -0,0 +1,80 @@
+package next.domo.gpt.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+// 외부 호출용 단순 서킷 브레이커
+// 연속 실패가 기준을 넘으면 일정 시간 호출을 막고(OPEN), 이후 한 건만 시험 호출(HALF_OPEN)해서 성공하면 다시 연다.
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0;
+    private boolean probeInFlight = false;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+    }
+
+    // 호출 가능 여부 확인, HALF_OPEN에서는 시험 호출 한 건만 허용
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("{} 서킷 브레이커 닫힘", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("{} 서킷 브레이커 열림 (연속 실패 {}회)", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            probeInFlight = false;
+        }
+    }
+
+    // 결과와 무관하게 끝난 호출(클라이언트 취소, 4xx 등)은 시험 호출 자리만 반납
+    public synchronized void onIgnored() {
+        probeInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,9 @@
+package next.domo.gpt.client;
+
+// 연속 실패로 회로가 열려 있어 외부 AI 호출을 바로 거절하는 경우
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,130 @@
+package next.domo.gpt.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+// OpenAI chat completion 형식의 API 호출 (OpenAI 및 같은 형식의 로컬 스텁 서버)
+// 429/5xx와 시도별 시간 초과는 지터가 섞인 지수 백오프로 재시도하고, 재시도 후에도 계속 실패하면 서킷 브레이커로 호출을 잠시 막는다.
+// 호출하는 쪽이 block으로 기다리다 취소하기 전에 여기서 먼저 시간 초과를 내서 실패로 집계한다.
+@Slf4j
+public class OpenAiClient {
+
+    private static final String CHAT_COMPLETIONS_PATH = "/chat/completions";
+    private static final String STREAM_DONE = "[DONE]";
+
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retrySpec;
+    private final Duration attemptTimeout;
+    private final Duration callTimeout;
+
+    public OpenAiClient(String name,
+                        WebClient webClient,
+                        MeterRegistry meterRegistry,
+                        int maxRetryAttempts,
+                        long minBackoffMillis,
+                        long maxBackoffMillis,
+                        int failureThreshold,
+                        long openSeconds,
+                        Duration attemptTimeout,
+                        Duration callTimeout) {
+        this.webClient = webClient;
+        this.attemptTimeout = attemptTimeout;
+        this.callTimeout = callTimeout;
+        this.circuitBreaker = new CircuitBreaker(name, failureThreshold, Duration.ofSeconds(openSeconds));
+        this.retrySpec = Retry.backoff(maxRetryAttempts, Duration.ofMillis(minBackoffMillis))
+                .maxBackoff(Duration.ofMillis(maxBackoffMillis))
+                .jitter(0.5)
+                .filter(OpenAiClient::isRetryable)
+                .doBeforeRetry(signal -> log.warn("OpenAI 호출 재시도 {}회: {}", signal.totalRetries() + 1, signal.failure().getMessage()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
+        Gauge.builder("openai.circuit.open", circuitBreaker, breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .tag("client", name)
+                .register(meterRegistry);
+    }
+
+    // 전체 응답을 한 번에 받는 호출, 응답 원문(JSON) 반환
+    public Mono<String> chatCompletion(Map<String, Object> requestBody) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Mono.error(new CircuitBreakerOpenException("GPT 호출이 일시적으로 중단되었습니다. 잠시 후 다시 시도해주세요."));
+            }
+            return webClient.post()
+                    .uri(CHAT_COMPLETIONS_PATH)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .timeout(attemptTimeout)
+                    .retryWhen(retrySpec)
+                    .timeout(callTimeout)
+                    .doOnSuccess(response -> circuitBreaker.onSuccess())
+                    .doOnError(this::recordFailure)
+                    .doOnCancel(circuitBreaker::onIgnored);
+        });
+    }
+
+    // stream: true 호출, SSE data 부분(JSON 청크)만 순서대로 반환
+    // 재시도는 응답 상태 코드 오류와 첫 청크 전 시간 초과에만 적용되므로 이미 받은 청크가 중복되지 않는다.
+    // 청크 사이 대기 시간은 HTTP 클라이언트의 read timeout이 담당한다.
+    public Flux<String> streamChatCompletion(Map<String, Object> requestBody) {
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Flux.error(new CircuitBreakerOpenException("GPT 호출이 일시적으로 중단되었습니다. 잠시 후 다시 시도해주세요."));
+            }
+            return webClient.post()
+                    .uri(CHAT_COMPLETIONS_PATH)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                    .timeout(Mono.delay(attemptTimeout), event -> Mono.never())
+                    .retryWhen(retrySpec)
+                    .timeout(Mono.delay(callTimeout), event -> Mono.never())
+                    .mapNotNull(ServerSentEvent::data)
+                    .takeWhile(data -> !STREAM_DONE.equals(data.trim()))
+                    .doOnError(this::recordFailure)
+                    .doFinally(signal -> {
+                        if (signal == SignalType.ON_COMPLETE) {
+                            circuitBreaker.onSuccess();
+                        } else if (signal == SignalType.CANCEL) {
+                            circuitBreaker.onIgnored();
+                        }
+                    });
+        });
+    }
+
+    // 요청 자체가 잘못된 경우(4xx)는 서비스 장애로 보지 않음
+    private void recordFailure(Throwable e) {
+        if (isRetryable(e) || !(e instanceof WebClientResponseException)) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onIgnored();
+        }
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof TimeoutException) {
+            return true;
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return false;
+    }
+}
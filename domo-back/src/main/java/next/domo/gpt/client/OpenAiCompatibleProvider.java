@@ -0,0 +1,65 @@
+package next.domo.gpt.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// OpenAI chat completion 요청/응답 형식을 쓰는 제공자 공통 처리
+public abstract class OpenAiCompatibleProvider implements AiCompletionProvider {
+
+    private final OpenAiClient client;
+    private final ObjectMapper objectMapper;
+    private final String model;
+
+    protected OpenAiCompatibleProvider(OpenAiClient client, ObjectMapper objectMapper, String model) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.model = model;
+    }
+
+    @Override
+    public Mono<String> complete(List<Map<String, Object>> messages) {
+        return client.chatCompletion(buildRequestBody(messages, false))
+                .map(this::extractContent);
+    }
+
+    @Override
+    public Flux<String> streamComplete(List<Map<String, Object>> messages) {
+        return client.streamChatCompletion(buildRequestBody(messages, true))
+                .map(this::extractDeltaContent);
+    }
+
+    private Map<String, Object> buildRequestBody(List<Map<String, Object>> messages, boolean stream) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", model);
+        requestBody.put("messages", messages);
+        if (stream) {
+            requestBody.put("stream", true);
+        }
+        return requestBody;
+    }
+
+    private String extractContent(String rawResponse) {
+        try {
+            JsonNode root = objectMapper.readTree(rawResponse);
+            return root.path("choices").get(0).path("message").path("content").asText();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("GPT 응답 파싱 실패", e);
+        }
+    }
+
+    // 스트리밍 청크에서 이번에 추가된 내용만 추출
+    private String extractDeltaContent(String chunk) {
+        try {
+            return objectMapper.readTree(chunk).path("choices").path(0).path("delta").path("content").asText("");
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("GPT 스트리밍 응답 파싱 실패", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package next.domo.gpt.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 실제 OpenAI API 사용 (기본값)
+@Component
+@ConditionalOnProperty(name = "ai.provider", havingValue = "openai", matchIfMissing = true)
+public class OpenAiCompletionProvider extends OpenAiCompatibleProvider {
+
+    public OpenAiCompletionProvider(OpenAiClient openAiClient,
+                                    ObjectMapper objectMapper,
+                                    @Value("${openai.model:gpt-3.5-turbo}") String model) {
+        super(openAiClient, objectMapper, model);
+    }
+}
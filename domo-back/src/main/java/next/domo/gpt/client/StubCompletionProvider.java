@@ -0,0 +1,34 @@
+package next.domo.gpt.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+// 내장 스텁 서버를 사용하는 제공자 (ai.provider=stub)
+// 네트워크나 API 비용 없이 하위작업 생성 경로 전체를 부하 테스트할 때 사용한다.
+@Component
+@ConditionalOnProperty(name = "ai.provider", havingValue = "stub")
+public class StubCompletionProvider extends OpenAiCompatibleProvider {
+
+    private static final String STUB_MODEL = "stub-model";
+
+    public StubCompletionProvider(StubModelServer stubModelServer,
+                                  WebClient.Builder webClientBuilder,
+                                  MeterRegistry meterRegistry,
+                                  ObjectMapper objectMapper) {
+        super(createClient(stubModelServer, webClientBuilder, meterRegistry), objectMapper, STUB_MODEL);
+    }
+
+    // 스텁 응답은 실패하지 않으므로 재시도 없이 사용
+    private static OpenAiClient createClient(StubModelServer stubModelServer, WebClient.Builder webClientBuilder, MeterRegistry meterRegistry) {
+        WebClient webClient = webClientBuilder.clone()
+                .baseUrl(stubModelServer.getBaseUrl())
+                .build();
+        return new OpenAiClient("stub", webClient, meterRegistry, 0, 100, 100, 5, 30,
+                Duration.ofSeconds(30), Duration.ofSeconds(30));
+    }
+}
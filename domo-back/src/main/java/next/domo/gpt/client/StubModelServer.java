@@ -0,0 +1,200 @@
+package next.domo.gpt.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 부하 테스트용 내장 스텁 서버
+// OpenAI chat completion과 같은 형식으로 미리 정해둔 응답을 지정한 지연 시간 후 돌려준다. (stream 모드 포함)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ai.provider", havingValue = "stub")
+public class StubModelServer {
+
+    private static final String COMPLETIONS_PATH = "/v1/chat/completions";
+    private static final Pattern PROJECT_ID_PATTERN = Pattern.compile("\\[projectId: (\\d+)]");
+    private static final String[] LEVELS = {"상", "중", "하"};
+    private static final int STREAM_CHUNK_LENGTH = 16;
+
+    private static final String SUB_TASK_CONTENT = """
+            {"subTaskList": [
+              {"subTaskOrder": 1, "subTaskName": "목표와 범위 정리", "subTaskExpectedTime": 30, "subTaskTag": "PLANNING_STRATEGY"},
+              {"subTaskOrder": 2, "subTaskName": "참고 자료 조사", "subTaskExpectedTime": 60, "subTaskTag": "RESEARCH_ANALYSIS"},
+              {"subTaskOrder": 3, "subTaskName": "초안 작성", "subTaskExpectedTime": 90, "subTaskTag": "DOCUMENTATION"},
+              {"subTaskOrder": 4, "subTaskName": "핵심 기능 구현", "subTaskExpectedTime": 120, "subTaskTag": "DEVELOPMENT"},
+              {"subTaskOrder": 5, "subTaskName": "화면 구성 다듬기", "subTaskExpectedTime": 60, "subTaskTag": "DESIGN"},
+              {"subTaskOrder": 6, "subTaskName": "최종 점검", "subTaskExpectedTime": 30, "subTaskTag": "OPERATIONS"}
+            ]}""";
+
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private final long latencyMillis;
+    private final long chunkDelayMillis;
+    private final int threads;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public StubModelServer(ObjectMapper objectMapper,
+                           @Value("${ai.stub.port:0}") int port,
+                           @Value("${ai.stub.latency-ms:1500}") long latencyMillis,
+                           @Value("${ai.stub.chunk-delay-ms:30}") long chunkDelayMillis,
+                           @Value("${ai.stub.threads:200}") int threads) {
+        this.objectMapper = objectMapper;
+        this.port = port;
+        this.latencyMillis = latencyMillis;
+        this.chunkDelayMillis = chunkDelayMillis;
+        this.threads = threads;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.createContext(COMPLETIONS_PATH, this::handle);
+        server.start();
+        log.info("AI 스텁 서버 시작 {} (지연 {}ms)", getBaseUrl(), latencyMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    // OpenAiClient에 넘길 base URL
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/v1";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            JsonNode request;
+            try (InputStream body = exchange.getRequestBody()) {
+                request = objectMapper.readTree(body);
+            }
+            String content = buildContent(lastUserMessage(request));
+
+            if (request.path("stream").asBoolean(false)) {
+                writeStream(exchange, content);
+            } else {
+                sleep(latencyMillis);
+                writeCompletion(exchange, request.path("model").asText(), content);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String lastUserMessage(JsonNode request) {
+        String userMessage = "";
+        for (JsonNode message : request.path("messages")) {
+            if ("user".equals(message.path("role").asText())) {
+                userMessage = message.path("content").asText();
+            }
+        }
+        return userMessage;
+    }
+
+    // 프롬프트 종류에 맞는 고정 응답 선택
+    private String buildContent(String userMessage) throws IOException {
+        if (userMessage.contains("projectLevels")) {
+            List<Map<String, Object>> levels = new ArrayList<>();
+            Matcher matcher = PROJECT_ID_PATTERN.matcher(userMessage);
+            while (matcher.find()) {
+                long projectId = Long.parseLong(matcher.group(1));
+                levels.add(Map.of("projectId", projectId, "projectLevel", LEVELS[(int) (projectId % LEVELS.length)]));
+            }
+            return objectMapper.writeValueAsString(Map.of("projectLevels", levels));
+        }
+        if (userMessage.contains("projectLevel")) {
+            return "{ \"projectLevel\": \"중\" }";
+        }
+        return SUB_TASK_CONTENT;
+    }
+
+    private void writeCompletion(HttpExchange exchange, String model, String content) throws IOException {
+        Map<String, Object> response = Map.of(
+                "id", "stub-" + UUID.randomUUID(),
+                "object", "chat.completion",
+                "model", model,
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", content),
+                        "finish_reason", "stop"
+                ))
+        );
+        byte[] body = objectMapper.writeValueAsBytes(response);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // 첫 조각까지는 전체 지연의 1/4, 이후 조각마다 chunkDelay 만큼 기다리며 전송
+    private void writeStream(HttpExchange exchange, String content) throws IOException, InterruptedException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        sleep(latencyMillis / 4);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < content.length(); i += STREAM_CHUNK_LENGTH) {
+                String piece = content.substring(i, Math.min(i + STREAM_CHUNK_LENGTH, content.length()));
+                Map<String, Object> chunk = Map.of("choices", List.of(Map.of(
+                        "index", 0,
+                        "delta", Map.of("content", piece)
+                )));
+                writeEvent(out, objectMapper.writeValueAsString(chunk));
+                sleep(chunkDelayMillis);
+            }
+            writeEvent(out, "[DONE]");
+        }
+    }
+
+    private void writeEvent(OutputStream out, String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        }
+    }
+}
@@ -4,14 +4,29 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import next.domo.gpt.dto.GptJobResponseDto;
+import next.domo.gpt.dto.ProjectLevelBatchRequestDto;
+import next.domo.gpt.job.GptJob;
+import next.domo.gpt.job.GptJobRejectedException;
+import next.domo.gpt.service.GPTJobService;
 import next.domo.gpt.service.GPTService;
 import next.domo.project.entity.ProjectLevelType;
 import next.domo.user.service.UserService;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -19,17 +34,63 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/gpt")
 public class GPTController {
     private final GPTService gptService;
+    private final GPTJobService gptJobService;
     private final UserService userService;
 
-    @Operation(summary = "GPT로 하위작업 생성")
+    @Operation(summary = "GPT로 하위작업 생성 요청",
+            description = "하위작업 생성 작업을 등록하고 jobId를 바로 반환합니다. 결과는 /api/gpt/jobs/{jobId} 조회 또는 /api/gpt/jobs/{jobId}/events 구독(SSE)으로 받습니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "GPT로 하위작업 생성 성공"),
-            @ApiResponse(responseCode = "4XX", description = "GPT로 하위작업 생성 실패")
+            @ApiResponse(responseCode = "202", description = "GPT 하위작업 생성 작업 등록 성공"),
+            @ApiResponse(responseCode = "429", description = "사용자별 동시 요청 한도 초과"),
+            @ApiResponse(responseCode = "503", description = "요청이 많아 작업 등록 실패")
     })
     @PostMapping("/{projectId}/subtasks")
-    public String createSubTaskByGPT(HttpServletRequest request,  @Parameter(description = "하위작업 생성할 프로젝트 ID", required = true, example = "1") @PathVariable Long projectId) {
+    public ResponseEntity<?> createSubTaskByGPT(HttpServletRequest request,  @Parameter(description = "하위작업 생성할 프로젝트 ID", required = true, example = "1") @PathVariable Long projectId) {
+        Long userId = userService.getUserIdFromToken(request);
+        try {
+            GptJob job = gptJobService.submitSubTaskJob(userId, projectId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(GptJobResponseDto.from(job));
+        } catch (GptJobRejectedException e) {
+            return ResponseEntity.status(e.getStatus()).body(e.getMessage());
+        }
+    }
+
+    @Operation(summary = "GPT로 하위작업 생성 (스트리밍)",
+            description = "하위작업이 하나 완성될 때마다 subtask 이벤트로 전송하고, 모두 끝나면 done 이벤트를 보냅니다. 실패 시 error 이벤트에 사유가 담깁니다.")
+    @PostMapping(value = "/{projectId}/subtasks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamSubTaskByGPT(HttpServletRequest request, @Parameter(description = "하위작업 생성할 프로젝트 ID", required = true, example = "1") @PathVariable Long projectId) {
+        Long userId = userService.getUserIdFromToken(request);
+        return gptService.streamSubTaskByGPT(userId, projectId)
+                .map(subTask -> ServerSentEvent.<Object>builder(subTask).event("subtask").build())
+                .concatWith(Mono.just(ServerSentEvent.<Object>builder("completed").event("done").build()))
+                .onErrorResume(e -> {
+                    log.error("GPT 하위작업 스트리밍 실패 projectId={}", projectId, e);
+                    return Mono.just(ServerSentEvent.<Object>builder("하위작업 생성에 실패했습니다.").event("error").build());
+                });
+    }
+
+    @Operation(summary = "GPT 하위작업 생성 작업 상태 조회",
+            description = "status가 DONE이면 result에 하위작업 리스트 JSON이, FAILED이면 error에 실패 사유가 담깁니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "작업 상태 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "해당 작업 없음")
+    })
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getSubTaskJob(HttpServletRequest request, @Parameter(description = "작업 ID", required = true) @PathVariable String jobId) {
         Long userId = userService.getUserIdFromToken(request);
-        return gptService.createSubTaskByGPT(userId, projectId);
+        try {
+            return ResponseEntity.ok(GptJobResponseDto.from(gptJobService.getJob(userId, jobId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    @Operation(summary = "GPT 하위작업 생성 작업 결과 구독 (SSE)",
+            description = "작업이 끝나면 result 이벤트로 작업 상태를 한 번 전송하고 연결을 종료합니다.")
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSubTaskJob(HttpServletRequest request, @Parameter(description = "작업 ID", required = true) @PathVariable String jobId) {
+        Long userId = userService.getUserIdFromToken(request);
+        return gptJobService.subscribe(userId, jobId);
     }
 
     @Operation(summary = "GPT로 프로젝트 난이도 예측 및 저장")
@@ -44,4 +105,22 @@ public class GPTController {
         Long userId = userService.getUserIdFromToken(request);
         return gptService.predictProjectLevelByGPT(projectId);
     }
+
+    @Operation(summary = "GPT로 여러 프로젝트 난이도 일괄 예측 및 저장",
+            description = "projectIds를 비우면 아직 난이도가 없는 내 프로젝트 전체를 예측합니다. 여러 프로젝트를 하나의 프롬프트로 묶어 요청합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "프로젝트 난이도 일괄 예측 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 내 프로젝트가 아닌 ID 포함")
+    })
+    @PostMapping("/predict-level/batch")
+    public ResponseEntity<?> predictProjectLevelsByGPT(HttpServletRequest request,
+                                                       @RequestBody(required = false) ProjectLevelBatchRequestDto requestDto) {
+        Long userId = userService.getUserIdFromToken(request);
+        List<Long> projectIds = requestDto == null ? null : requestDto.getProjectIds();
+        try {
+            return ResponseEntity.ok(gptService.predictProjectLevelsByGPT(userId, projectIds));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
 }
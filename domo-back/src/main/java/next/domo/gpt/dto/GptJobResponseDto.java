@@ -0,0 +1,30 @@
+package next.domo.gpt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import next.domo.gpt.job.GptJob;
+import next.domo.gpt.job.GptJobStatus;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class GptJobResponseDto {
+    private String jobId;
+    private Long projectId;
+    private GptJobStatus status;
+    private String preview;
+    private String result;
+    private String error;
+
+    public static GptJobResponseDto from(GptJob job) {
+        return GptJobResponseDto.builder()
+                .jobId(job.getJobId())
+                .projectId(job.getProjectId())
+                .status(job.getStatus())
+                .preview(job.getPreview())
+                .result(job.getResult())
+                .error(job.getError())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package next.domo.gpt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectLevelBatchRequestDto {
+    // 비어 있으면 아직 난이도가 없는 내 프로젝트 전체
+    private List<Long> projectIds;
+}
@@ -0,0 +1,14 @@
+package next.domo.gpt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import next.domo.project.entity.ProjectLevelType;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProjectLevelPredictionDto {
+    private Long projectId;
+    private ProjectLevelType projectLevel;
+}
@@ -0,0 +1,58 @@
+package next.domo.gpt.job;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+// 비동기 GPT 하위작업 생성 요청 1건의 상태 (메모리에만 보관)
+@Getter
+public class GptJob {
+    private final String jobId;
+    private final Long userId;
+    private final Long projectId;
+    private final LocalDateTime createdAt;
+    private final CompletableFuture<GptJob> completion = new CompletableFuture<>();
+
+    private volatile GptJobStatus status;
+    // GPT 응답 전까지 보여줄 로컬 추정 결과
+    private volatile String preview;
+    private volatile String result;
+    private volatile String error;
+    private volatile LocalDateTime completedAt;
+
+    public GptJob(Long userId, Long projectId) {
+        this.jobId = UUID.randomUUID().toString();
+        this.userId = userId;
+        this.projectId = projectId;
+        this.createdAt = LocalDateTime.now();
+        this.status = GptJobStatus.PENDING;
+    }
+
+    public void setPreview(String preview) {
+        this.preview = preview;
+    }
+
+    public void markAsRunning() {
+        this.status = GptJobStatus.RUNNING;
+    }
+
+    public void complete(String result) {
+        this.result = result;
+        this.completedAt = LocalDateTime.now();
+        this.status = GptJobStatus.DONE;
+        completion.complete(this);
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.completedAt = LocalDateTime.now();
+        this.status = GptJobStatus.FAILED;
+        completion.complete(this);
+    }
+
+    public boolean isFinished() {
+        return status == GptJobStatus.DONE || status == GptJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,15 @@
+package next.domo.gpt.job;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+// 사용자별 동시 실행 한도 초과(429) 또는 실행 큐 포화(503)로 작업을 받을 수 없는 경우
+@Getter
+public class GptJobRejectedException extends RuntimeException {
+    private final HttpStatus status;
+
+    public GptJobRejectedException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -0,0 +1,14 @@
+package next.domo.gpt.job;
+
+/*
+ * - PENDING: 큐에서 실행 대기 중
+ * - RUNNING: GPT 호출 중
+ * - DONE: 하위작업 생성 완료
+ * - FAILED: 호출 실패 또는 시간 초과
+ */
+public enum GptJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,175 @@
+package next.domo.gpt.service;
+
+import lombok.extern.slf4j.Slf4j;
+import next.domo.gpt.dto.GptJobResponseDto;
+import next.domo.gpt.job.GptJob;
+import next.domo.gpt.job.GptJobRejectedException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// GPT 하위작업 생성을 요청 스레드에서 분리해 전용 스레드 풀에서 실행하고, 결과는 jobId로 조회한다.
+@Slf4j
+@Service
+public class GPTJobService {
+
+    private final GPTService gptService;
+    private final ThreadPoolTaskExecutor gptTaskExecutor;
+    private final int maxJobsPerUser;
+    private final long sseTimeoutMillis;
+    private final long retentionMinutes;
+
+    private static final String JOB_FAILED_MESSAGE = "하위작업 생성에 실패했습니다. 잠시 후 다시 시도해주세요.";
+
+    private final Map<String, GptJob> jobs = new ConcurrentHashMap<>();
+    // 작업별 결과를 기다리는 SSE 연결 (끊기거나 시간 초과되면 바로 제거)
+    private final Map<String, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> runningJobsByUser = new ConcurrentHashMap<>();
+
+    public GPTJobService(GPTService gptService,
+                         @Qualifier("gptTaskExecutor") ThreadPoolTaskExecutor gptTaskExecutor,
+                         @Value("${openai.job.max-per-user:2}") int maxJobsPerUser,
+                         @Value("${openai.job.sse-timeout-ms:120000}") long sseTimeoutMillis,
+                         @Value("${openai.job.retention-minutes:10}") long retentionMinutes) {
+        this.gptService = gptService;
+        this.gptTaskExecutor = gptTaskExecutor;
+        this.maxJobsPerUser = maxJobsPerUser;
+        this.sseTimeoutMillis = sseTimeoutMillis;
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    // 하위작업 생성 작업 등록 후 바로 반환
+    public GptJob submitSubTaskJob(Long userId, Long projectId) {
+        acquireSlot(userId);
+
+        GptJob job = new GptJob(userId, projectId);
+        try {
+            job.setPreview(gptService.previewSubTasks(userId, projectId));
+        } catch (RuntimeException e) {
+            // 미리보기 실패는 작업 등록에 영향 없음
+            log.debug("GPT 하위작업 미리보기 생성 실패 projectId={}: {}", projectId, e.getMessage());
+        }
+        jobs.put(job.getJobId(), job);
+        job.getCompletion().thenAccept(this::publishResult);
+
+        try {
+            gptTaskExecutor.execute(() -> runSubTaskJob(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getJobId());
+            releaseSlot(userId);
+            log.warn("GPT 작업 큐가 가득 차서 요청을 거절합니다. userId={}", userId);
+            throw new GptJobRejectedException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 하위작업 생성을 시작할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job;
+    }
+
+    public GptJob getJob(Long userId, String jobId) {
+        GptJob job = jobs.get(jobId);
+        if (job == null || !job.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("해당 작업을 찾을 수 없습니다.");
+        }
+        return job;
+    }
+
+    // 작업이 끝나면 결과를 SSE로 한 번 보내고 연결 종료
+    public SseEmitter subscribe(Long userId, String jobId) {
+        GptJob job = getJob(userId, jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+
+        Set<SseEmitter> emitters = subscribers.computeIfAbsent(jobId, id -> ConcurrentHashMap.newKeySet());
+        emitters.add(emitter);
+        emitter.onCompletion(() -> removeSubscriber(jobId, emitter));
+        emitter.onTimeout(() -> removeSubscriber(jobId, emitter));
+        emitter.onError(e -> removeSubscriber(jobId, emitter));
+
+        // 이미 끝난 작업이면 바로 전송 (목록에서 먼저 꺼낸 쪽만 전송해서 중복 전송 방지)
+        if (job.isFinished() && emitters.remove(emitter)) {
+            sendResult(job, emitter);
+            removeSubscriber(jobId, emitter);
+        }
+        return emitter;
+    }
+
+    private void publishResult(GptJob job) {
+        Set<SseEmitter> emitters = subscribers.remove(job.getJobId());
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            if (emitters.remove(emitter)) {
+                sendResult(job, emitter);
+            }
+        }
+    }
+
+    private void sendResult(GptJob job, SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("result")
+                    .data(GptJobResponseDto.from(job)));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 먼저 연결을 끊은 경우
+            log.debug("GPT 작업 결과 SSE 전송 실패 jobId={}: {}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    private void removeSubscriber(String jobId, SseEmitter emitter) {
+        subscribers.computeIfPresent(jobId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private void runSubTaskJob(GptJob job) {
+        job.markAsRunning();
+        try {
+            job.complete(gptService.createSubTaskByGPT(job.getUserId(), job.getProjectId()));
+        } catch (Exception e) {
+            // 원인(제공자/HTTP 오류 내용)은 로그에만 남기고 사용자에게는 고정 문구 전달
+            log.error("GPT 하위작업 생성 작업 실패 jobId={}", job.getJobId(), e);
+            job.fail(JOB_FAILED_MESSAGE);
+        } finally {
+            releaseSlot(job.getUserId());
+        }
+    }
+
+    private void acquireSlot(Long userId) {
+        AtomicBoolean acquired = new AtomicBoolean(false);
+        runningJobsByUser.compute(userId, (id, running) -> {
+            int current = running == null ? 0 : running;
+            if (current >= maxJobsPerUser) {
+                return running;
+            }
+            acquired.set(true);
+            return current + 1;
+        });
+        if (!acquired.get()) {
+            throw new GptJobRejectedException(HttpStatus.TOO_MANY_REQUESTS, "이미 진행 중인 하위작업 생성 요청이 있습니다. 완료 후 다시 시도해주세요.");
+        }
+    }
+
+    private void releaseSlot(Long userId) {
+        runningJobsByUser.computeIfPresent(userId, (id, running) -> running <= 1 ? null : running - 1);
+    }
+
+    // 완료 후 보관 기간이 지난 작업 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getCompletedAt().isBefore(threshold));
+        subscribers.keySet().removeIf(jobId -> !jobs.containsKey(jobId));
+    }
+}
@@ -1,12 +1,18 @@
 package next.domo.gpt.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import next.domo.gpt.client.AiCompletionProvider;
+import next.domo.gpt.dto.GptSubTaskDto;
+import next.domo.gpt.dto.ProjectLevelPredictionDto;
 import next.domo.project.entity.Project;
 import next.domo.project.entity.ProjectLevelType;
 import next.domo.project.repository.ProjectRepository;
+import next.domo.project.service.ProjectService;
 import next.domo.subtask.entity.SubTask;
 import next.domo.subtask.entity.SubTaskTag;
 import next.domo.subtask.repository.SubTaskRepository;
@@ -17,12 +23,22 @@ import next.domo.user.repository.UserTagRepository;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static next.domo.subtask.entity.SubTaskTag.*;
@@ -31,32 +47,338 @@ import static next.domo.subtask.entity.SubTaskTag.*;
 @Service
 public class GPTService{
 
-    private final WebClient webClient;
+    private record SubTaskPrompt(User user, Project project, Map<SubTaskTag, Integer> tagRates, String cacheKey, String userMessage) {
+    }
+
+    private final AiCompletionProvider aiCompletionProvider;
     private final UserTagRepository userTagRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final SubTaskRepository subTaskRepository;
-    private final String apiKey;
+    private final GptResultCache gptResultCache;
+    private final ProjectService projectService;
+    private final LocalProjectEstimator localProjectEstimator;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final int levelBatchChunkSize;
+    private final int levelBatchConcurrency;
+    private final boolean fallbackEnabled;
 
-    public GPTService(@Value("${openai.api-key}") String apiKey, UserTagRepository userTagRepository, UserRepository userRepository, ProjectRepository projectRepository, SubTaskRepository subTaskRepository) {
-        this.apiKey = apiKey;
+    public GPTService(AiCompletionProvider aiCompletionProvider, @Value("${openai.timeout-seconds:60}") long timeoutSeconds, UserTagRepository userTagRepository, UserRepository userRepository, ProjectRepository projectRepository, SubTaskRepository subTaskRepository, GptResultCache gptResultCache, ProjectService projectService, LocalProjectEstimator localProjectEstimator, ObjectMapper objectMapper,
+                      @Value("${openai.batch.chunk-size:20}") int levelBatchChunkSize,
+                      @Value("${openai.batch.concurrency:3}") int levelBatchConcurrency,
+                      @Value("${openai.fallback.enabled:true}") boolean fallbackEnabled) {
+        this.aiCompletionProvider = aiCompletionProvider;
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
         this.userTagRepository = userTagRepository;
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
         this.subTaskRepository = subTaskRepository;
-        this.webClient = WebClient.builder()
-                .baseUrl("https://api.openai.com/v1/chat/completions")
-                .defaultHeader("Authorization", "Bearer " + apiKey)
-                .defaultHeader("Content-Type", "application/json")
-                .build();
+        this.gptResultCache = gptResultCache;
+        this.projectService = projectService;
+        this.localProjectEstimator = localProjectEstimator;
+        this.objectMapper = objectMapper;
+        this.levelBatchChunkSize = levelBatchChunkSize;
+        this.levelBatchConcurrency = levelBatchConcurrency;
+        this.fallbackEnabled = fallbackEnabled;
     }
 
     // userProfile이 생기면 수정 (tagRate 관련)
     public String createSubTaskByGPT(Long userId, Long projectId) {
+        SubTaskPrompt prompt = prepareSubTaskPrompt(userId, projectId);
+        Optional<String> cached = gptResultCache.get(GptResultCache.Kind.SUB_TASK, prompt.cacheKey(), String.class);
+        if (cached.isPresent()) {
+            log.info("GPT 하위작업 캐시 사용 projectId={}", projectId);
+            return cached.get();
+        }
+
+        List<Map<String, Object>> messages = buildSubTaskMessages(prompt.userMessage());
+
+        try {
+            String content = aiCompletionProvider.complete(messages)
+                    .block(timeout);
+
+            // 하위 작업 리스트 추출
+            JsonNode subTaskList = objectMapper.readTree(content).path("subTaskList");
+            if (subTaskList.isMissingNode() || !subTaskList.isArray()) {
+                throw new RuntimeException("GPT 응답에서 subTaskList가 누락되었습니다.");
+            }
+
+            gptResultCache.put(prompt.cacheKey(), content);
+            return content;
+        } catch (Exception e) {
+            if (!fallbackEnabled) {
+                throw new RuntimeException("GPT 응답 파싱 실패", e);
+            }
+            // 추정 결과는 캐시하지 않음
+            log.warn("GPT 하위작업 생성 실패, 로컬 추정 결과로 대체 projectId={}: {}", projectId, e.getMessage());
+            return toSubTaskListContent(estimateSubTasks(prompt.user(), prompt.project(), prompt.tagRates()));
+        }
+    }
+
+    // GPT 응답을 기다리는 동안 보여줄 로컬 추정 하위작업
+    public String previewSubTasks(Long userId, Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 프로젝트를 찾을 수 없습니다."));
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 아이디를 가진 사용자를 찾을 수 없습니다."));
+        return toSubTaskListContent(estimateSubTasks(user, project, getTagRatePercents(userId)));
+    }
+
+    // 스트리밍 모드로 하위작업 생성, 배열 원소 객체가 완성될 때마다 바로 내보냄
+    public Flux<GptSubTaskDto> streamSubTaskByGPT(Long userId, Long projectId) {
+        SubTaskPrompt prompt = prepareSubTaskPrompt(userId, projectId);
+        Optional<String> cached = gptResultCache.get(GptResultCache.Kind.SUB_TASK, prompt.cacheKey(), String.class);
+        if (cached.isPresent()) {
+            log.info("GPT 하위작업 캐시 사용 projectId={}", projectId);
+            return Flux.fromIterable(parseSubTaskList(cached.get()));
+        }
+
+        List<Map<String, Object>> messages = buildSubTaskMessages(prompt.userMessage());
+
+        return Flux.defer(() -> {
+            SubTaskStreamParser parser = new SubTaskStreamParser();
+            AtomicBoolean emitted = new AtomicBoolean(false);
+            return aiCompletionProvider.streamComplete(messages)
+                    // 조각 사이 대기 시간이 너무 길면 실패 처리
+                    .timeout(timeout)
+                    .concatMapIterable(parser::feed)
+                    .map(this::toSubTaskDto)
+                    .doOnNext(subTask -> emitted.set(true))
+                    .doOnComplete(() -> cacheStreamedSubTasks(prompt.cacheKey(), parser.getContent()))
+                    // 아직 아무것도 보내지 않았을 때만 로컬 추정 결과로 대체
+                    .onErrorResume(e -> fallbackEnabled && !emitted.get(), e -> {
+                        log.warn("GPT 하위작업 스트리밍 실패, 로컬 추정 결과로 대체 projectId={}: {}", projectId, e.getMessage());
+                        return Flux.fromIterable(estimateSubTasks(prompt.user(), prompt.project(), prompt.tagRates()));
+                    });
+        });
+    }
+
+    public ProjectLevelType predictProjectLevelByGPT(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 프로젝트를 찾을 수 없습니다."));
+
+        // 날짜를 제외한 프롬프트로 캐시 키 생성
+        String cacheKey = GptResultCache.keyOf(GptResultCache.Kind.PROJECT_LEVEL, buildProjectLevelPrompt(project, ""));
+        Optional<ProjectLevelType> cached = gptResultCache.get(GptResultCache.Kind.PROJECT_LEVEL, cacheKey, ProjectLevelType.class);
+        if (cached.isPresent()) {
+            log.info("GPT 난이도 예측 캐시 사용 projectId={}", projectId);
+            project.setProjectLevel(cached.get().getFactor());
+            projectRepository.save(project);
+            return cached.get();
+        }
+
+        String userMessage = buildProjectLevelPrompt(project, LocalDate.now().toString());
+
+        Map<String, Object> message1 = Map.of(
+                "role", "system",
+                "content", "You are a helpful assistant."
+        );
+        Map<String, Object> message2 = Map.of(
+                "role", "user",
+                "content", userMessage
+        );
+
+        ProjectLevelType level;
+        try {
+            String content = aiCompletionProvider.complete(List.of(message1, message2))
+                    .block(timeout);
+            String projectLevelStr = objectMapper.readTree(content).path("projectLevel").asText();
+
+            level = ProjectLevelType.from(projectLevelStr);
+            gptResultCache.put(cacheKey, level);
+        } catch (Exception e) {
+            if (!fallbackEnabled) {
+                throw new RuntimeException("GPT 난이도 예측 실패", e);
+            }
+            log.warn("GPT 난이도 예측 실패, 로컬 추정 결과로 대체 projectId={}: {}", projectId, e.getMessage());
+            level = localProjectEstimator.estimateLevel(project, LocalDateTime.now());
+        }
+
+        // 결과 저장
+        project.setProjectLevel(level.getFactor());
+        projectRepository.save(project);
+
+        return level;
+    }
+
+    // 여러 프로젝트의 난이도를 몇 개의 프롬프트로 묶어 예측하고, 난이도별로 한 번에 저장
+    public List<ProjectLevelPredictionDto> predictProjectLevelsByGPT(Long userId, List<Long> projectIds) {
+        boolean allUnleveled = projectIds == null || projectIds.isEmpty();
+        List<Project> projects = allUnleveled
+                ? projectRepository.findByUserUserIdAndProjectLevelIsNull(userId)
+                : projectRepository.findByUserUserIdAndProjectIdIn(userId, projectIds);
+        if (!allUnleveled && projects.size() != new HashSet<>(projectIds).size()) {
+            throw new EntityNotFoundException("해당 프로젝트를 찾을 수 없습니다.");
+        }
+
+        // 캐시에 있는 프로젝트는 GPT 호출 대상에서 제외
+        Map<Long, ProjectLevelType> levels = new HashMap<>();
+        Map<Long, String> cacheKeys = new HashMap<>();
+        List<Project> uncached = new ArrayList<>();
+        for (Project project : projects) {
+            String cacheKey = GptResultCache.keyOf(GptResultCache.Kind.PROJECT_LEVEL, buildProjectLevelPrompt(project, ""));
+            cacheKeys.put(project.getProjectId(), cacheKey);
+            gptResultCache.get(GptResultCache.Kind.PROJECT_LEVEL, cacheKey, ProjectLevelType.class)
+                    .ifPresentOrElse(level -> levels.put(project.getProjectId(), level), () -> uncached.add(project));
+        }
+
+        String today = LocalDate.now().toString();
+        List<List<Project>> chunks = new ArrayList<>();
+        for (int i = 0; i < uncached.size(); i += levelBatchChunkSize) {
+            chunks.add(uncached.subList(i, Math.min(i + levelBatchChunkSize, uncached.size())));
+        }
+        // 끝난 묶음 결과는 바로 모아두어서 전체 대기 시간이 지나도 그대로 사용
+        List<Map<Long, ProjectLevelType>> predictions = Collections.synchronizedList(new ArrayList<>());
+        try {
+            Flux.fromIterable(chunks)
+                    .flatMap(chunk -> aiCompletionProvider.complete(buildProjectLevelBatchMessages(chunk, today))
+                            .timeout(timeout)
+                            .map(content -> parseProjectLevels(content, chunk))
+                            // 실패하거나 시간 초과된 묶음은 아래에서 로컬 추정으로 채움
+                            .onErrorResume(e -> fallbackEnabled, e -> {
+                                log.warn("GPT 난이도 일괄 예측 실패, 로컬 추정 결과로 대체 ({}건): {}", chunk.size(), e.getMessage());
+                                return Mono.empty();
+                            }), levelBatchConcurrency)
+                    .doOnNext(predictions::add)
+                    .blockLast(timeout);
+        } catch (IllegalStateException e) {
+            // 묶음이 많아 전체 대기 시간을 넘긴 경우 (남은 묶음은 취소)
+            if (!fallbackEnabled) {
+                throw e;
+            }
+            log.warn("GPT 난이도 일괄 예측 시간 초과, 완료된 {}개 묶음 외에는 로컬 추정 결과로 대체", predictions.size());
+        }
+        synchronized (predictions) {
+            predictions.forEach(prediction -> prediction.forEach((projectId, level) -> {
+                levels.put(projectId, level);
+                gptResultCache.put(cacheKeys.get(projectId), level);
+            }));
+        }
+        if (fallbackEnabled) {
+            LocalDateTime now = LocalDateTime.now();
+            uncached.stream()
+                    .filter(project -> !levels.containsKey(project.getProjectId()))
+                    .forEach(project -> levels.put(project.getProjectId(), localProjectEstimator.estimateLevel(project, now)));
+        }
+
+        Map<ProjectLevelType, List<Long>> projectIdsByLevel = new EnumMap<>(ProjectLevelType.class);
+        levels.forEach((projectId, level) -> projectIdsByLevel.computeIfAbsent(level, key -> new ArrayList<>()).add(projectId));
+        projectService.updateProjectLevels(userId, projectIdsByLevel);
+
+        return projects.stream()
+                .filter(project -> levels.containsKey(project.getProjectId()))
+                .map(project -> new ProjectLevelPredictionDto(project.getProjectId(), levels.get(project.getProjectId())))
+                .collect(Collectors.toList());
+    }
+
+    private List<Map<String, Object>> buildProjectLevelBatchMessages(List<Project> projects, String today) {
+        Map<String, Object> message1 = Map.of(
+                "role", "system",
+                "content", "You are a helpful assistant."
+        );
+        Map<String, Object> message2 = Map.of(
+                "role", "user",
+                "content", buildProjectLevelBatchPrompt(projects, today)
+        );
+        return List.of(message1, message2);
+    }
+
+    // 요청한 묶음에 포함된 프로젝트의 결과만 사용하고, 형식이 잘못된 항목은 건너뜀
+    private Map<Long, ProjectLevelType> parseProjectLevels(String content, List<Project> chunk) {
+        Set<Long> requestedIds = chunk.stream().map(Project::getProjectId).collect(Collectors.toSet());
+        Map<Long, ProjectLevelType> levels = new HashMap<>();
+        try {
+            for (JsonNode node : objectMapper.readTree(content).path("projectLevels")) {
+                long projectId = node.path("projectId").asLong(-1);
+                if (!requestedIds.contains(projectId)) {
+                    continue;
+                }
+                try {
+                    levels.put(projectId, ProjectLevelType.from(node.path("projectLevel").asText()));
+                } catch (IllegalArgumentException e) {
+                    log.warn("GPT 난이도 일괄 예측 결과 무시 projectId={}: {}", projectId, e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("GPT 난이도 일괄 예측 실패", e);
+        }
+        return levels;
+    }
+
+    private List<GptSubTaskDto> estimateSubTasks(User user, Project project, Map<SubTaskTag, Integer> tagRates) {
+        return localProjectEstimator.estimateSubTasks(user, project, tagRates, LocalDateTime.now());
+    }
+
+    // GPT 응답과 같은 { "subTaskList": [...] } 형식으로 변환
+    private String toSubTaskListContent(List<GptSubTaskDto> subTasks) {
+        try {
+            return objectMapper.writeValueAsString(Map.of("subTaskList", subTasks));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("하위작업 변환 실패", e);
+        }
+    }
+
+    private SubTaskPrompt prepareSubTaskPrompt(Long userId, Long projectId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 프로젝트를 찾을 수 없습니다."));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 아이디를 가진 사용자를 찾을 수 없습니다."));
+        Map<SubTaskTag, Integer> tagRates = getTagRatePercents(userId);
+
+        // 날짜와 소요율의 미세한 차이는 무시한 프롬프트로 캐시 키 생성
+        String cacheKey = GptResultCache.keyOf(GptResultCache.Kind.SUB_TASK,
+                buildSubTaskPrompt(user, project, bucketTagRates(tagRates), ""));
+        // 프롬프트
+        String userMessage = buildSubTaskPrompt(user, project, tagRates, LocalDate.now().toString());
+        log.info(userMessage);
+        return new SubTaskPrompt(user, project, tagRates, cacheKey, userMessage);
+    }
+
+    private List<Map<String, Object>> buildSubTaskMessages(String userMessage) {
+        Map<String, Object> message1 = Map.of(
+                "role", "system",
+                "content", "You are a helpful assistant. Ignore any past interactions. This is a new, independent request."
+        );
+
+        Map<String, Object> message2 = Map.of(
+                "role", "user",
+                "content", userMessage
+        );
+        return List.of(message1, message2);
+    }
+
+    private GptSubTaskDto toSubTaskDto(String subTaskJson) {
+        try {
+            return objectMapper.readValue(subTaskJson, GptSubTaskDto.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("GPT 하위작업 파싱 실패", e);
+        }
+    }
+
+    private List<GptSubTaskDto> parseSubTaskList(String content) {
+        try {
+            JsonNode subTaskList = objectMapper.readTree(content).path("subTaskList");
+            return objectMapper.convertValue(subTaskList, new TypeReference<List<GptSubTaskDto>>() {});
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("GPT 응답 파싱 실패", e);
+        }
+    }
+
+    // 스트리밍이 끝까지 정상 완료된 경우에만 전체 응답을 캐시
+    private void cacheStreamedSubTasks(String cacheKey, String content) {
+        try {
+            JsonNode subTaskList = objectMapper.readTree(content).path("subTaskList");
+            if (subTaskList.isArray()) {
+                gptResultCache.put(cacheKey, content);
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("GPT 스트리밍 응답이 올바른 JSON이 아니어서 캐시하지 않습니다: {}", e.getMessage());
+        }
+    }
+
+    // 사용자 태그별 예측 대비 소요율 (% 단위, 기록 없으면 100%)
+    private Map<SubTaskTag, Integer> getTagRatePercents(Long userId) {
         List<UserTag> userTags = userTagRepository.findByUserUserId(userId);
         // userTag 퍼센트 저장 map
         Map<SubTaskTag, Float> tagRateMap = userTags.stream()
@@ -65,19 +387,22 @@ public class GPTService{
                         UserTag::getActualToExpectedRate
                 ));
 
-        // 각 태그별 수치 꺼내기 (없으면 100%)
-        int documentation = (int) Math.floor(tagRateMap.getOrDefault(DOCUMENTATION, 1f)*100);
-        int planning = (int) Math.floor(tagRateMap.getOrDefault(PLANNING_STRATEGY, 1f)*100);
-        int development = (int) Math.floor(tagRateMap.getOrDefault(DEVELOPMENT, 1f)*100);
-        int design = (int) Math.floor(tagRateMap.getOrDefault(DESIGN, 1f)*100);
-        int research = (int) Math.floor(tagRateMap.getOrDefault(RESEARCH_ANALYSIS, 1f)*100);
-        int communication = (int) Math.floor(tagRateMap.getOrDefault(COMMUNICATION, 1f)*100);
-        int operations = (int) Math.floor(tagRateMap.getOrDefault(OPERATIONS, 1f)*100);
-        int exercise = (int) Math.floor(tagRateMap.getOrDefault(EXERCISE, 1f)*100);
-        int personal = (int) Math.floor(tagRateMap.getOrDefault(PERSONAL_LIFE, 1f)*100);
+        Map<SubTaskTag, Integer> tagRates = new EnumMap<>(SubTaskTag.class);
+        for (SubTaskTag tag : SubTaskTag.values()) {
+            tagRates.put(tag, (int) Math.floor(tagRateMap.getOrDefault(tag, 1f) * 100));
+        }
+        return tagRates;
+    }
 
-        // 프롬프트
-        String userMessage = String.format("""
+    // 캐시 키용으로 소요율을 10% 단위 구간으로 묶음
+    private Map<SubTaskTag, Integer> bucketTagRates(Map<SubTaskTag, Integer> tagRates) {
+        Map<SubTaskTag, Integer> buckets = new EnumMap<>(SubTaskTag.class);
+        tagRates.forEach((tag, rate) -> buckets.put(tag, Math.round(rate / 10f) * 10));
+        return buckets;
+    }
+
+    private String buildSubTaskPrompt(User user, Project project, Map<SubTaskTag, Integer> tagRates, String today) {
+        return String.format("""
                         이 사용자는 세분화 선호도는 [%s]이고, 작업 여유 성향은 [%s]이야.
                         사용자의 세분화 선호도에 따라 **하위작업 개수를 반드시 아래 기준에 맞게 생성해줘.**  
                         - FEW_TASKS: 4~6개
@@ -125,63 +450,22 @@ public class GPTService{
                 project.getProjectName(),
                 project.getProjectDescription(),
                 project.getProjectRequirement(),
-                LocalDate.now(),
+                today,
                 project.getProjectDeadline(),
-                documentation,
-                planning,
-                development,
-                design,
-                research,
-                communication,
-                operations,
-                exercise,
-                personal
+                tagRates.get(DOCUMENTATION),
+                tagRates.get(PLANNING_STRATEGY),
+                tagRates.get(DEVELOPMENT),
+                tagRates.get(DESIGN),
+                tagRates.get(RESEARCH_ANALYSIS),
+                tagRates.get(COMMUNICATION),
+                tagRates.get(OPERATIONS),
+                tagRates.get(EXERCISE),
+                tagRates.get(PERSONAL_LIFE)
         );
-        log.info(userMessage);
-        Map<String, Object> message1 = Map.of(
-                "role", "system",
-                "content", "You are a helpful assistant. Ignore any past interactions. This is a new, independent request."
-        );
-
-        Map<String, Object> message2 = Map.of(
-                "role", "user",
-                "content", userMessage
-        );
-
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("model", "gpt-3.5-turbo");
-        requestBody.put("messages", List.of(message1, message2));
-
-        String rawResponse = webClient.post()
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode root = objectMapper.readTree(rawResponse);
-            String content = root.path("choices").get(0).path("message").path("content").asText();
-
-            // 하위 작업 리스트 추출
-            JsonNode subTaskList = objectMapper.readTree(content).path("subTaskList");
-            if (subTaskList.isMissingNode() || !subTaskList.isArray()) {
-                throw new RuntimeException("GPT 응답에서 subTaskList가 누락되었습니다.");
-            }
-
-            return content;
-        } catch (Exception e) {
-            throw new RuntimeException("GPT 응답 파싱 실패", e);
-        }
     }
 
-    public ProjectLevelType predictProjectLevelByGPT(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 프로젝트를 찾을 수 없습니다."));
-
-        LocalDate now = LocalDate.now();
-
-        String userMessage = String.format("""
+    private String buildProjectLevelPrompt(Project project, String today) {
+        return String.format("""
                 너는 프로젝트 난이도를 예측해주는 AI야.
 
                 아래 정보를 바탕으로 프로젝트의 난이도를 '상', '중', '하' 중 하나로 판단해줘.
@@ -206,45 +490,51 @@ public class GPTService{
                 project.getProjectName(),
                 project.getProjectDescription(),
                 project.getProjectRequirement(),
-                now,
+                today,
                 project.getProjectDeadline(),
                 project.getProjectExpectedTime()
         );
+    }
 
-        Map<String, Object> message1 = Map.of(
-                "role", "system",
-                "content", "You are a helpful assistant."
-        );
-        Map<String, Object> message2 = Map.of(
-                "role", "user",
-                "content", userMessage
-        );
-
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("model", "gpt-3.5-turbo");
-        requestBody.put("messages", List.of(message1, message2));
+    private String buildProjectLevelBatchPrompt(List<Project> projects, String today) {
+        StringBuilder projectList = new StringBuilder();
+        for (Project project : projects) {
+            projectList.append(String.format("""
+                    [projectId: %d]
+                    - 프로젝트 이름: %s
+                    - 프로젝트 설명: %s
+                    - 프로젝트 요구사항: %s
+                    - 마감 기한: %s
+                    - 예상 소요 시간 (분 단위): %d
 
-        String rawResponse = webClient.post()
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
+                    """,
+                    project.getProjectId(),
+                    project.getProjectName(),
+                    project.getProjectDescription(),
+                    project.getProjectRequirement(),
+                    project.getProjectDeadline(),
+                    project.getProjectExpectedTime()
+            ));
+        }
 
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(rawResponse);
-            String content = root.path("choices").get(0).path("message").path("content").asText();
-            String projectLevelStr = mapper.readTree(content).path("projectLevel").asText();
+        return String.format("""
+                너는 프로젝트 난이도를 예측해주는 AI야.
 
-            ProjectLevelType level = ProjectLevelType.from(projectLevelStr);
+                오늘 날짜는 %s이야. 아래 프로젝트 각각의 난이도를 '상', '중', '하' 중 하나로 판단해줘.
 
-            // 결과 저장
-            project.setProjectLevel(level.getFactor());
-            projectRepository.save(project);
+                %s
+                판단 기준은 다음과 같아:
+                - 프로젝트 마감까지 시간이 촉박해서 마감기한 내에 프로젝트 해결이 어렵거나,
+                - 예상 소요 시간이 너무 길거나,
+                - 요구사항이 많고 복잡해 보이면 '상'
+                - 일반적이고 평이한 수준이면 '중'
+                - 간단하거나 여유롭고 쉬워 보이면 '하'
 
-            return level;
-        } catch (Exception e) {
-            throw new RuntimeException("GPT 난이도 예측 실패", e);
-        }
+                모든 프로젝트에 대해 빠짐없이, 반드시 다음 형식의 JSON으로 응답해:
+                { "projectLevels": [ { "projectId": 1, "projectLevel": "상" } ] }
+                """,
+                today,
+                projectList
+        );
     }
 }
@@ -0,0 +1,92 @@
+package next.domo.gpt.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import next.domo.jwt.TokenHasher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 같은 입력으로 만든 프롬프트의 GPT 결과를 재사용하기 위한 캐시
+// 키는 정규화된 프롬프트의 SHA-256 해시이고, 크기 초과 시 가장 오래 사용되지 않은 항목부터 제거한다.
+@Component
+public class GptResultCache {
+
+    public enum Kind {
+        SUB_TASK,
+        PROJECT_LEVEL
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    private final Map<Kind, Counter> hitCounters = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> missCounters = new EnumMap<>(Kind.class);
+
+    public GptResultCache(MeterRegistry meterRegistry,
+                          @Value("${openai.cache.max-size:500}") int maxSize,
+                          @Value("${openai.cache.ttl-minutes:60}") long ttlMinutes) {
+        this.ttlMillis = Duration.ofMinutes(ttlMinutes).toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        for (Kind kind : Kind.values()) {
+            hitCounters.put(kind, Counter.builder("gpt.cache.gets")
+                    .tag("kind", kind.name())
+                    .tag("result", "hit")
+                    .register(meterRegistry));
+            missCounters.put(kind, Counter.builder("gpt.cache.gets")
+                    .tag("kind", kind.name())
+                    .tag("result", "miss")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("gpt.cache.size", this, GptResultCache::size)
+                .register(meterRegistry);
+    }
+
+    public static String keyOf(Kind kind, String normalizedPrompt) {
+        return TokenHasher.sha256Hex(kind.name() + "\n" + normalizedPrompt);
+    }
+
+    public <T> Optional<T> get(Kind kind, String key, Class<T> type) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.expiresAt() <= System.currentTimeMillis()) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+
+        if (entry == null || !type.isInstance(entry.value())) {
+            missCounters.get(kind).increment();
+            return Optional.empty();
+        }
+        hitCounters.get(kind).increment();
+        return Optional.of(type.cast(entry.value()));
+    }
+
+    public void put(String key, Object value) {
+        synchronized (entries) {
+            entries.put(key, new Entry(value, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
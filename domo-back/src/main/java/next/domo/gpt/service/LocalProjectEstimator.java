@@ -0,0 +1,127 @@
+package next.domo.gpt.service;
+
+import next.domo.gpt.dto.GptSubTaskDto;
+import next.domo.project.entity.Project;
+import next.domo.project.entity.ProjectLevelType;
+import next.domo.subtask.entity.SubTaskTag;
+import next.domo.user.entity.User;
+import next.domo.user.enums.TaskDetailPreference;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// GPT 없이 프로젝트 정보만으로 난이도와 하위작업을 추정하는 로컬 계산기
+// GPT 호출이 실패했을 때의 대체 결과와, GPT 응답을 기다리는 동안 보여줄 미리보기에 사용한다.
+@Component
+public class LocalProjectEstimator {
+
+    // 예상 소요시간이 마감까지 남은 시간에서 차지하는 비율 기준
+    private static final double HIGH_PRESSURE_RATIO = 0.5;
+    private static final double MEDIUM_PRESSURE_RATIO = 0.2;
+    // 예상 소요시간(분) 기준
+    private static final int LARGE_EXPECTED_MINUTES = 3000;
+    private static final int MEDIUM_EXPECTED_MINUTES = 600;
+    // 요구사항 글자 수 기준
+    private static final int LONG_REQUIREMENT_LENGTH = 300;
+
+    private static final int MIN_SUBTASK_MINUTES = 10;
+
+    private record SubTaskTemplate(String name, SubTaskTag tag, int weight) {
+    }
+
+    // 마감 압박, 작업량, 요구사항 길이를 점수로 합산해서 난이도 결정
+    public ProjectLevelType estimateLevel(Project project, LocalDateTime now) {
+        int expectedMinutes = project.getProjectExpectedTime() == null ? 0 : project.getProjectExpectedTime();
+        int score = 0;
+
+        if (project.getProjectDeadline() != null) {
+            long slackMinutes = Duration.between(now, project.getProjectDeadline()).toMinutes();
+            if (slackMinutes <= 0) {
+                score += 2;
+            } else {
+                double ratio = (double) expectedMinutes / slackMinutes;
+                if (ratio >= HIGH_PRESSURE_RATIO) {
+                    score += 2;
+                } else if (ratio >= MEDIUM_PRESSURE_RATIO) {
+                    score += 1;
+                }
+            }
+        }
+
+        if (expectedMinutes >= LARGE_EXPECTED_MINUTES) {
+            score += 2;
+        } else if (expectedMinutes >= MEDIUM_EXPECTED_MINUTES) {
+            score += 1;
+        }
+
+        String requirement = project.getProjectRequirement();
+        if (requirement != null && requirement.strip().length() >= LONG_REQUIREMENT_LENGTH) {
+            score += 1;
+        }
+
+        if (score >= 3) {
+            return ProjectLevelType.상;
+        }
+        return score >= 1 ? ProjectLevelType.중 : ProjectLevelType.하;
+    }
+
+    // 세분화 선호도에 맞는 개수의 기본 하위작업을 만들고, 태그별 소요율(%)로 예상 시간 보정
+    public List<GptSubTaskDto> estimateSubTasks(User user, Project project, Map<SubTaskTag, Integer> tagRatePercents, LocalDateTime now) {
+        List<SubTaskTemplate> templates = buildTemplates(user.getDetailPreference());
+        int totalWeight = templates.stream().mapToInt(SubTaskTemplate::weight).sum();
+        int budgetMinutes = estimateBudgetMinutes(project, now);
+
+        List<GptSubTaskDto> subTasks = new ArrayList<>();
+        for (int i = 0; i < templates.size(); i++) {
+            SubTaskTemplate template = templates.get(i);
+            int rate = tagRatePercents.getOrDefault(template.tag(), 100);
+            double minutes = (double) budgetMinutes * template.weight() / totalWeight * rate / 100;
+            // 5분 단위로 반올림
+            int expectedTime = Math.max(MIN_SUBTASK_MINUTES, (int) Math.round(minutes / 5) * 5);
+
+            subTasks.add(GptSubTaskDto.builder()
+                    .subTaskOrder(i + 1)
+                    .subTaskName(template.name())
+                    .subTaskExpectedTime(expectedTime)
+                    .subTaskTag(template.tag())
+                    .build());
+        }
+        return subTasks;
+    }
+
+    // 예상 소요시간이 아직 없으면 난이도별 기본 시간 사용
+    private int estimateBudgetMinutes(Project project, LocalDateTime now) {
+        Integer expectedTime = project.getProjectExpectedTime();
+        if (expectedTime != null && expectedTime > 0) {
+            return expectedTime;
+        }
+        return switch (estimateLevel(project, now)) {
+            case 상 -> 900;
+            case 중 -> 480;
+            case 하 -> 240;
+        };
+    }
+
+    private List<SubTaskTemplate> buildTemplates(TaskDetailPreference preference) {
+        int coreCount = switch (preference == null ? TaskDetailPreference.BALANCED_TASKS : preference) {
+            case FEW_TASKS -> 1;
+            case BALANCED_TASKS -> 5;
+            case MANY_TASKS -> 9;
+        };
+
+        List<SubTaskTemplate> templates = new ArrayList<>();
+        templates.add(new SubTaskTemplate("목표와 요구사항 정리", SubTaskTag.PLANNING_STRATEGY, 1));
+        templates.add(new SubTaskTemplate("관련 자료 조사", SubTaskTag.RESEARCH_ANALYSIS, 2));
+        for (int i = 1; i <= coreCount; i++) {
+            String name = coreCount == 1 ? "핵심 작업 진행" : "핵심 작업 " + i + "단계 진행";
+            templates.add(new SubTaskTemplate(name, SubTaskTag.DEVELOPMENT, 3));
+        }
+        templates.add(new SubTaskTemplate("결과 점검 및 보완", SubTaskTag.OPERATIONS, 2));
+        templates.add(new SubTaskTemplate("결과 정리", SubTaskTag.DOCUMENTATION, 1));
+        return templates;
+    }
+}
@@ -0,0 +1,77 @@
+package next.domo.gpt.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// GPT 스트리밍 응답 조각을 이어 붙이면서 배열 안의 JSON 객체가 완성될 때마다 꺼내주는 파서
+// { "subTaskList": [ {...}, {...} ] } 형태에서 배열 원소 객체를 하나씩 반환한다.
+public class SubTaskStreamParser {
+
+    private final StringBuilder buffer = new StringBuilder();
+    // 현재 열려 있는 괄호 ('{' 또는 '[')
+    private final StringBuilder openBrackets = new StringBuilder();
+    private int scanPosition = 0;
+    private int objectStart = -1;
+    private int objectDepth = -1;
+    private boolean inString = false;
+    private boolean escaped = false;
+
+    // 새로 받은 조각을 반영하고, 이번에 완성된 배열 원소 객체들을 반환
+    public List<String> feed(String fragment) {
+        List<String> completed = new ArrayList<>();
+        if (fragment == null || fragment.isEmpty()) {
+            return completed;
+        }
+        buffer.append(fragment);
+
+        for (; scanPosition < buffer.length(); scanPosition++) {
+            char c = buffer.charAt(scanPosition);
+
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> inString = true;
+                case '{', '[' -> {
+                    // 배열 바로 안에서 시작하는 객체만 추적
+                    if (c == '{' && objectStart < 0 && lastOpenBracket() == '[') {
+                        objectStart = scanPosition;
+                        objectDepth = openBrackets.length() + 1;
+                    }
+                    openBrackets.append(c);
+                }
+                case '}', ']' -> {
+                    if (openBrackets.isEmpty()) {
+                        continue;
+                    }
+                    if (c == '}' && objectStart >= 0 && openBrackets.length() == objectDepth) {
+                        completed.add(buffer.substring(objectStart, scanPosition + 1));
+                        objectStart = -1;
+                        objectDepth = -1;
+                    }
+                    openBrackets.setLength(openBrackets.length() - 1);
+                }
+                default -> {
+                }
+            }
+        }
+        return completed;
+    }
+
+    // 지금까지 받은 전체 응답 내용
+    public String getContent() {
+        return buffer.toString();
+    }
+
+    private char lastOpenBracket() {
+        return openBrackets.isEmpty() ? 0 : openBrackets.charAt(openBrackets.length() - 1);
+    }
+}
@@ -2,17 +2,21 @@ package next.domo.init;
 
 import lombok.RequiredArgsConstructor;
 import next.domo.file.ItemInitializerService;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-public class InitRunner implements CommandLineRunner {
+public class InitRunner {
 
-    private final ItemInitializerService itemInitializerService;
+    // 동기화 서비스는 지연 생성되므로 시작이 끝난 뒤 꺼내서 사용
+    private final ObjectProvider<ItemInitializerService> itemInitializerService;
 
-    @Override
-    public void run(String... args) {
-        itemInitializerService.initializeItemsFromS3();
+    // 아이템 동기화는 준비 완료 후 백그라운드에서 진행 (저장소 응답을 기다리지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        itemInitializerService.getObject().triggerSync();
     }
 }
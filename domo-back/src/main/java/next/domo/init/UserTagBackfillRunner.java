@@ -0,0 +1,38 @@
+package next.domo.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import next.domo.user.service.UserTagService;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 태그별 소요율 누적 집계 도입 전 데이터를 한 번 이관 (user-tag.backfill.enabled=true 일 때만 실행)
+// 사용자마다 별도 트랜잭션으로 처리하므로 중간에 실패해도 다음 실행 때 남은 사용자만 다시 처리된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user-tag.backfill.enabled", havingValue = "true")
+public class UserTagBackfillRunner implements CommandLineRunner {
+
+    private final UserTagService userTagService;
+
+    @Override
+    public void run(String... args) {
+        List<Long> userIds = userTagService.findUserIdsWithoutAggregates();
+        log.info("UserTag 집계 이관 시작 (대상 사용자 {}명)", userIds.size());
+
+        int failed = 0;
+        for (Long userId : userIds) {
+            try {
+                userTagService.recalculateUserTagRates(userId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("UserTag 집계 이관 실패 userId={}: {}", userId, e.getMessage());
+            }
+        }
+        log.info("UserTag 집계 이관 완료 (실패 {}명)", failed);
+    }
+}
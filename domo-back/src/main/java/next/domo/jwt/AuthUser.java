@@ -0,0 +1,18 @@
+package next.domo.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+// accessToken claim만으로 구성하는 인증 주체 (요청마다 DB 조회 없이 SecurityContext에 저장)
+@Getter
+@AllArgsConstructor
+public class AuthUser implements AuthenticatedPrincipal {
+    private final Long userId;
+    private final String loginId;
+
+    @Override
+    public String getName() {
+        return loginId;
+    }
+}
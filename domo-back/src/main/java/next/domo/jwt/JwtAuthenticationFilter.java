@@ -1,34 +1,37 @@
 package next.domo.jwt;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import next.domo.user.entity.User;
-import next.domo.user.repository.UserRepository;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
 import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 
 @RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private static final List<String> NO_CHECK_URLS = List.of("/api/user/login", "/swagger-ui", "/api/user/signup", "/v3/api-docs", "/upload/glb");
+    private static final List<String> NO_CHECK_URLS = List.of("/api/user/login", "/swagger-ui", "/api/user/signup", "/v3/api-docs", "/upload/glb", "/files/", "/actuator/");
+
+    // 필터에서 한 번 검증한 accessToken claim을 컨트롤러까지 전달하기 위한 request attribute 이름
+    public static final String VERIFIED_ACCESS_TOKEN_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".VERIFIED_ACCESS_TOKEN";
 
     public final JwtProvider jwtProvider;
-    public final UserRepository userRepository;
+    public final RefreshTokenService refreshTokenService;
+    public final UserExistenceCache userExistenceCache;
 
     private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
@@ -54,11 +57,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 log.error("액세스 토큰과 리프레시 토큰이 모두 존재하지 않습니다.");
                 throw new JWTVerificationException("액세스 토큰과 리프레시 토큰이 모두 존재하지 않습니다.");
             }
-            // accesstoken 유효
-            if(accessToken != null && jwtProvider.isAccessTokenValid(accessToken)) {
+            // accesstoken 유효 -> 검증 결과를 request에 담아 재검증 방지
+            // 요청 처리가 끝나면 응답이 이미 전송된 상태라 리프레시 토큰 교체는 하지 않음
+            // (교체하면 새 토큰이 클라이언트에 전달되지 않은 채 기존 토큰만 사용 처리되어 재사용으로 판단됨)
+            if(accessToken != null) {
+                DecodedJWT decodedAccessToken = jwtProvider.validateAccessToken(accessToken);
+                request.setAttribute(VERIFIED_ACCESS_TOKEN_ATTRIBUTE, decodedAccessToken);
                 checkAccessTokenAndAuthentication(request, response, filterChain);
+                return;
             }
-            // refreshtoken 유효 -> accesstoken 재발급
+            // accesstoken 없이 refreshtoken만 유효 -> 토큰 교체 후 재발급
             if(refreshToken != null && jwtProvider.isRefreshTokenValid(refreshToken)) {
                 reIssueAccessToken(response, refreshToken);
                 return;
@@ -75,28 +83,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     }
 
+    // 리프레시 토큰도 새로 교체해서 함께 반환 (이전 토큰은 더 이상 사용할 수 없음)
     public void reIssueAccessToken(HttpServletResponse response, String refreshToken) throws IOException {
-        log.info("리프레시토큰이 유효하나 DB에 있는지는 모름. DB에서 찾아봐서 없으면 예외 발생할 것임.");
-        User user = userRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new JWTVerificationException("유효하지 않은 리프레시 토큰입니다."));
-        jwtProvider.sendAccessToken(response, jwtProvider.createAccessToken(user.getLoginId(), user.getUserId()));
+        RefreshTokenService.IssuedTokens tokens = refreshTokenService.rotate(refreshToken);
+        jwtProvider.sendAccessAndRefreshToken(response, tokens.accessToken(), tokens.refreshToken());
     }
 
     public void checkAccessTokenAndAuthentication(HttpServletRequest request, HttpServletResponse response,
     FilterChain filterChain) throws ServletException, IOException {
         log.info("checkAccessTokenAndAuthentication() 호출");
         
-        jwtProvider.extractAccessToken(request)
-        .ifPresent(accessToken -> {
-            jwtProvider.extractUserId(accessToken)
+        DecodedJWT decodedAccessToken = (DecodedJWT) request.getAttribute(VERIFIED_ACCESS_TOKEN_ATTRIBUTE);
+        if (decodedAccessToken != null) {
+            jwtProvider.extractUserId(decodedAccessToken)
             .ifPresent(userId -> {
                 log.info("인증 대상 userId = {}", userId);
-                userRepository.findByUserId(userId)
-                .ifPresentOrElse(this::saveAuthentication, () -> {
+                // 토큰 claim으로 인증 주체를 만들고, 탈퇴 여부만 캐시를 통해 확인
+                if (userExistenceCache.exists(userId)) {
+                    String loginId = jwtProvider.extractLoginId(decodedAccessToken).orElse(null);
+                    saveAuthentication(new AuthUser(userId, loginId));
+                } else {
                     log.warn("토큰은 유효하지만 userId={}에 해당하는 유저 없음", userId);
-                });
+                }
             });
-        });
+        }
 
         // ✅ 인증 정보가 SecurityContext에 저장되지 않은 경우 → 403 반환
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
@@ -112,18 +122,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     // 인증 허가
-    public void saveAuthentication(User myUser) {
+    public void saveAuthentication(AuthUser authUser) {
         log.info("saveAuthentication() 호출");
-        String password = myUser.getPassword();
-
-        UserDetails userDetailsUser = org.springframework.security.core.userdetails.User.builder()
-                .username(myUser.getLoginId())
-                .password(password)
-                .build();
 
         Authentication authentication =
-                new UsernamePasswordAuthenticationToken(userDetailsUser, null,
-                        authoritiesMapper.mapAuthorities(userDetailsUser.getAuthorities()));
+                new UsernamePasswordAuthenticationToken(authUser, null,
+                        authoritiesMapper.mapAuthorities(Collections.emptyList()));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
@@ -2,21 +2,25 @@
 package next.domo.jwt;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import next.domo.user.repository.UserRepository;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -47,7 +51,20 @@ public class JwtProvider {
     private static final String BEARER = "Bearer ";
     private static final String USER_ID_CLAIM = "userId";
 
-    private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Getter(AccessLevel.NONE)
+    private Algorithm algorithm;
+
+    @Getter(AccessLevel.NONE)
+    private JWTVerifier verifier;
+
+    // 서명 알고리즘과 verifier는 한 번만 생성해서 재사용 (thread-safe)
+    @PostConstruct
+    public void initVerifier() {
+        this.algorithm = Algorithm.HMAC512(secretKey);
+        this.verifier = JWT.require(algorithm).build();
+    }
 
     // accessToken 생성
     public String createAccessToken(String loginId, Long userId) {
@@ -57,16 +74,17 @@ public class JwtProvider {
                 .withExpiresAt(new Date(now.getTime() + accessTokenExpirationPeriod))
                 .withClaim(LOGIN_ID_CLAIM, loginId)
                 .withClaim(USER_ID_CLAIM, userId)
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
-    // refreshToken 생성
+    // refreshToken 생성 (같은 시각에 발급돼도 해시가 겹치지 않도록 jti 포함)
     public String createRefreshToken() {
         Date now = new Date();
         return JWT.create()
                 .withSubject(REFRESH_TOKEN_SUBJECT)
+                .withJWTId(UUID.randomUUID().toString())
                 .withExpiresAt(new Date(now.getTime() + refreshTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
     // accessToken header 통해 전송
@@ -74,7 +92,7 @@ public class JwtProvider {
         response.setStatus(HttpServletResponse.SC_OK);
 
         response.setHeader(accessHeader, accessToken);
-        log.info("발급된 Access Token : {}", accessToken);
+        log.info("Access Token 헤더 설정 완료");
     }
 
     // accessToken & refreshToken header 통해 전송
@@ -83,7 +101,6 @@ public class JwtProvider {
 
         setAccessTokenHeader(response, accessToken);
         setRefreshTokenHeader(response, refreshToken);
-        log.info("accesstoken: " + accessToken + "refreshtoken" + refreshToken);
         log.info("Access Token, Refresh Token 헤더 설정 완료");
     }
 
@@ -104,9 +121,7 @@ public class JwtProvider {
     // accessToken에서 userName 추출
     public Optional<String> extractEmail(String accessToken) {
         try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
-                    .verify(accessToken)
+            return Optional.ofNullable(verifyAccessToken(accessToken)
                     .getClaim(LOGIN_ID_CLAIM)
                     .asString());
         } catch (Exception e) {
@@ -118,17 +133,32 @@ public class JwtProvider {
     // accessToken에서 userId 추출
     public Optional<Long> extractUserId(String accessToken) {
         try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
-                    .verify(accessToken)
-                    .getClaim(USER_ID_CLAIM)
-                    .asLong());
+            return extractUserId(verifyAccessToken(accessToken));
         } catch (Exception e) {
             log.error("유효하지 않은 accessToken입니다.");
             return Optional.empty();
         }
     }
 
+    // 검증된 accessToken에서 userId 추출
+    public Optional<Long> extractUserId(DecodedJWT decodedAccessToken) {
+        return Optional.ofNullable(decodedAccessToken.getClaim(USER_ID_CLAIM).asLong());
+    }
+
+    // 검증된 accessToken에서 loginId 추출
+    public Optional<String> extractLoginId(DecodedJWT decodedAccessToken) {
+        return Optional.ofNullable(decodedAccessToken.getClaim(LOGIN_ID_CLAIM).asString());
+    }
+
+    // accessToken 서명 검증 (검증된 토큰은 만료 시각까지 캐시에서 재사용)
+    public DecodedJWT verifyAccessToken(String accessToken) {
+        return verifiedTokenCache.get(accessToken).orElseGet(() -> {
+            DecodedJWT decodedJWT = verifier.verify(accessToken);
+            verifiedTokenCache.put(accessToken, decodedJWT);
+            return decodedJWT;
+        });
+    }
+
     // accessToken header 설정
     public void setAccessTokenHeader(HttpServletResponse response, String accessToken) {
         response.setHeader(accessHeader, accessToken);
@@ -139,20 +169,10 @@ public class JwtProvider {
         response.setHeader(refreshHeader, refreshToken);
     }
 
-    // refreshToken db에 업데이트
-    public void updateRefreshToken(Long userId, String refreshToken) {
-        userRepository.findByUserId(userId)
-                .ifPresentOrElse(
-                        user -> user.updateRefreshToken(refreshToken),
-                        () -> {
-                            throw new RuntimeException("일치하는 회원이 없습니다.");
-                        });
-    }
-
     // token 유효성 확인
     public boolean isTokenValid(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
+            verifier.verify(token);
             log.info("유효한 토큰입니다.");
             return true;
         } catch (JWTVerificationException e) {
@@ -163,10 +183,16 @@ public class JwtProvider {
 
     // accesstoken 유효성 확인
     public boolean isAccessTokenValid(String token) {
+        validateAccessToken(token);
+        return true;
+    }
+
+    // accesstoken 검증 후 claim 반환
+    public DecodedJWT validateAccessToken(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
+            DecodedJWT decodedJWT = verifyAccessToken(token);
             log.info("유효한 엑세스 토큰입니다.");
-            return true;
+            return decodedJWT;
         } catch (JWTVerificationException e) {
             log.error("유효하지 않은 엑세스 토큰입니다. {}", e.getMessage());
             throw new JWTVerificationException("엑세스 토큰이 유효하지 않습니다.");
@@ -176,7 +202,7 @@ public class JwtProvider {
     // refreshtoken 유효성 확인
     public boolean isRefreshTokenValid(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
+            verifier.verify(token);
             log.info("유효한 리프레시 토큰입니다.");
             return true;
         } catch (JWTVerificationException e) {
@@ -0,0 +1,104 @@
+package next.domo.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import lombok.extern.slf4j.Slf4j;
+import next.domo.user.entity.RefreshToken;
+import next.domo.user.entity.User;
+import next.domo.user.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 리프레시 토큰 발급/재발급(rotation)/폐기
+// 이미 교체된 토큰이 다시 사용되면 탈취로 보고 같은 세션(family)의 토큰을 모두 폐기한다.
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    public record IssuedTokens(String accessToken, String refreshToken) {
+    }
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProvider jwtProvider;
+    private final long reuseGraceSeconds;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               JwtProvider jwtProvider,
+                               @Value("${jwt.refresh.reuse-grace-seconds:10}") long reuseGraceSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtProvider = jwtProvider;
+        this.reuseGraceSeconds = reuseGraceSeconds;
+    }
+
+    // 로그인/회원가입 시 새 세션 시작
+    @Transactional
+    public String issue(User user) {
+        return save(user, UUID.randomUUID().toString());
+    }
+
+    // 리프레시 토큰을 새 토큰으로 교체하고 accessToken도 함께 발급
+    @Transactional(noRollbackFor = JWTVerificationException.class)
+    public IssuedTokens rotate(String refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken stored = refreshTokenRepository.findByTokenHashWithUser(TokenHasher.sha256Hex(refreshToken))
+                .orElseThrow(() -> new JWTVerificationException("유효하지 않은 리프레시 토큰입니다."));
+
+        if (stored.isRevoked() || stored.isExpired(now)) {
+            throw new JWTVerificationException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        if (stored.getRotatedAt() != null || refreshTokenRepository.markRotated(stored.getRefreshTokenId(), now) == 0) {
+            handleReuse(stored, now);
+        }
+
+        User user = stored.getUser();
+        String newRefreshToken = save(user, stored.getFamilyId());
+        String accessToken = jwtProvider.createAccessToken(user.getLoginId(), user.getUserId());
+        return new IssuedTokens(accessToken, newRefreshToken);
+    }
+
+    // 비밀번호 변경 등으로 모든 기기에서 다시 로그인하게 할 때 사용
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    // 만료된 토큰 일괄 삭제 (교체된 토큰도 재사용 감지를 위해 만료 전까지는 보관)
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 리프레시 토큰 {}건 삭제", deleted);
+        }
+    }
+
+    private void handleReuse(RefreshToken stored, LocalDateTime now) {
+        // 동시에 보낸 요청이 같은 토큰으로 재발급한 경우는 세션을 유지하고 이번 요청만 거절
+        LocalDateTime rotatedAt = stored.getRotatedAt();
+        if (rotatedAt == null || rotatedAt.plusSeconds(reuseGraceSeconds).isAfter(now)) {
+            throw new JWTVerificationException("이미 재발급된 리프레시 토큰입니다.");
+        }
+        int revoked = refreshTokenRepository.revokeFamily(stored.getFamilyId());
+        log.warn("리프레시 토큰 재사용 감지 userId={}, familyId={} ({}건 폐기)",
+                stored.getUser().getUserId(), stored.getFamilyId(), revoked);
+        throw new JWTVerificationException("유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요.");
+    }
+
+    private String save(User user, String familyId) {
+        String refreshToken = jwtProvider.createRefreshToken();
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(TokenHasher.sha256Hex(refreshToken))
+                .familyId(familyId)
+                .createdAt(now)
+                .expiresAt(now.plus(Duration.ofMillis(jwtProvider.getRefreshTokenExpirationPeriod())))
+                .build());
+        return refreshToken;
+    }
+}
@@ -0,0 +1,23 @@
+package next.domo.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 토큰 원문 대신 저장/비교에 사용할 고정 길이 해시 생성
+public final class TokenHasher {
+
+    private TokenHasher() {
+    }
+
+    // SHA-256 해시를 64자리 hex 문자열로 반환
+    public static String sha256Hex(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
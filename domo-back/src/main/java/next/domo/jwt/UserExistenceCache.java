@@ -0,0 +1,60 @@
+package next.domo.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import next.domo.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// 탈퇴한 사용자의 토큰을 걸러내기 위한 짧은 TTL의 사용자 존재 여부 캐시
+// 존재가 확인된 userId만 TTL 동안 캐시하고, 탈퇴 시에는 즉시 제거한다.
+@Slf4j
+@Component
+public class UserExistenceCache {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<Long, Long> verifiedUntil = new ConcurrentHashMap<>();
+
+    public UserExistenceCache(UserRepository userRepository,
+                              @Value("${jwt.user-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.user-cache.ttl-ms:30000}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public boolean exists(Long userId) {
+        if (!enabled) {
+            return userRepository.existsById(userId);
+        }
+
+        long now = System.currentTimeMillis();
+        Long until = verifiedUntil.get(userId);
+        if (until != null && until > now) {
+            return true;
+        }
+
+        boolean exists = userRepository.existsById(userId);
+        if (exists) {
+            verifiedUntil.put(userId, now + ttlMillis);
+        } else {
+            verifiedUntil.remove(userId);
+        }
+        return exists;
+    }
+
+    public void evict(Long userId) {
+        verifiedUntil.remove(userId);
+    }
+
+    // 만료된 항목 주기적으로 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        verifiedUntil.values().removeIf(until -> until <= now);
+    }
+}
@@ -0,0 +1,78 @@
+package next.domo.jwt;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 서명 검증이 끝난 accessToken 캐시
+// 토큰 해시를 키로 사용하고, 토큰의 exp 시각이 지나면 캐시에서도 만료된다.
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final ConcurrentHashMap<String, DecodedJWT> verifiedTokens = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Optional<DecodedJWT> get(String token) {
+        String key = TokenHasher.sha256Hex(token);
+        DecodedJWT decodedJWT = verifiedTokens.get(key);
+        if (decodedJWT == null) {
+            return Optional.empty();
+        }
+        if (isExpired(decodedJWT, Instant.now())) {
+            verifiedTokens.remove(key, decodedJWT);
+            return Optional.empty();
+        }
+        return Optional.of(decodedJWT);
+    }
+
+    public void put(String token, DecodedJWT decodedJWT) {
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        if (decodedJWT.getExpiresAtAsInstant() == null) {
+            return;
+        }
+        if (verifiedTokens.size() >= maxSize) {
+            evictExpired();
+            evictOverflow();
+        }
+        verifiedTokens.put(TokenHasher.sha256Hex(token), decodedJWT);
+    }
+
+    public void evict(String token) {
+        verifiedTokens.remove(TokenHasher.sha256Hex(token));
+    }
+
+    // 만료된 토큰 주기적으로 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        Instant now = Instant.now();
+        verifiedTokens.values().removeIf(decodedJWT -> isExpired(decodedJWT, now));
+    }
+
+    // 만료 정리 후에도 가득 차 있으면 10% 정도 비워서 공간 확보
+    private void evictOverflow() {
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<String> iterator = verifiedTokens.keySet().iterator();
+        while (verifiedTokens.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        log.debug("검증 토큰 캐시 용량 초과로 일부 항목 제거 (size={})", verifiedTokens.size());
+    }
+
+    private boolean isExpired(DecodedJWT decodedJWT, Instant now) {
+        Instant expiresAt = decodedJWT.getExpiresAtAsInstant();
+        return expiresAt == null || !expiresAt.isAfter(now);
+    }
+}
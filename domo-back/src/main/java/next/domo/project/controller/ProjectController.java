@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import next.domo.project.dto.*;
 import next.domo.project.entity.Project;
 import next.domo.project.entity.ProjectLevelType;
+import next.domo.project.entity.ProjectStatus;
 import next.domo.project.service.ProjectService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -48,6 +49,18 @@ public class ProjectController {
         return ResponseEntity.ok(projects);
     }
 
+    @Operation(summary = "프로젝트 리스트 페이지 조회 (프로젝트Id, 프로젝트명, 태그명, 데드라인, 진행률, 완료여부)",
+            description = "최근 생성한 프로젝트부터 size개씩 반환합니다. 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "프로젝트 리스트 페이지 조회 성공")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<ProjectPageResponseDto<ProjectSummaryResponseDto>> getProjectPage(
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(projectService.getProjectPage(cursor, size));
+    }
+
     @Operation(summary = "특정 프로젝트 상세 조회 (이름, 설명, 태그명, 데드라인)")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "프로젝트 상세 조회 성공"),
@@ -149,6 +162,8 @@ public class ProjectController {
             description = """
             프로젝트를 정렬 기준(name, progress, deadline)에 따라 정렬하고 선택한 태그 ID 리스트(tagIds)에 해당하는 프로젝트만 필터링합니다.
             여러 개의 tagIds를 넘기려면 ?tagIds=1&tagIds=2 형식으로 요청하세요. ex) /projects?tagIds=1&tagIds=3&sortBy=deadline
+            status를 넘기면 해당 상태의 프로젝트만 조회합니다.
+            size를 넘기면 page/size로 나누어 조회하고(size 최대 100), 생략하면 조건에 맞는 프로젝트를 모두 반환합니다.
             """
     )
     @ApiResponses(value = {
@@ -164,8 +179,14 @@ public class ProjectController {
             @Parameter(
                     description = "정렬 기준 (name, progress, deadline 중 하나)",
                     example = "progress"
-            ) @RequestParam(required = false) String sortBy
+            ) @RequestParam(required = false) String sortBy,
+            @Parameter(
+                    description = "프로젝트 상태 (IN_PROGRESS, ALMOST_DONE, DONE 중 하나, 생략 시 전체)",
+                    example = "IN_PROGRESS"
+            ) @RequestParam(required = false) ProjectStatus status,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (생략 시 전체 조회)", example = "20") @RequestParam(required = false) Integer size
     ) {
-        return ResponseEntity.ok(projectService.getProjectListResponses(projectTagIds, sortBy));
+        return ResponseEntity.ok(projectService.getProjectListResponses(projectTagIds, status, sortBy, page, size));
     }
 }
@@ -20,6 +20,13 @@ public class ProjectListResponseDto {
     private String projectDescription;
     private boolean completed;
 
+    // JPQL 생성자 표현식용 (태그명을 조인으로 함께 조회)
+    public ProjectListResponseDto(Long projectId, String projectName, String projectTagName, LocalDateTime projectDeadline,
+                                  Integer projectProgressRate, String projectDescription, ProjectStatus projectStatus) {
+        this(projectId, projectName, projectTagName, projectDeadline, projectProgressRate, projectDescription,
+                projectStatus == ProjectStatus.DONE);
+    }
+
     public static ProjectListResponseDto from(Project project) {
         return ProjectListResponseDto.builder()
                 .projectId(project.getProjectId())
@@ -0,0 +1,15 @@
+package next.domo.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 페이지 응답, 다음 페이지는 nextCursor를 cursor로 넘겨서 조회
+@Getter
+@AllArgsConstructor
+public class ProjectPageResponseDto<T> {
+    private List<T> projects;
+    private Long nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,27 @@
+package next.domo.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import next.domo.project.entity.ProjectStatus;
+
+import java.time.LocalDateTime;
+
+// 목록 페이지용 요약 (설명 TEXT 컬럼 제외)
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProjectSummaryResponseDto {
+    private Long projectId;
+    private String projectName;
+    private String projectTagName;
+    private LocalDateTime projectDeadline;
+    private Integer projectProgressRate;
+    private boolean completed;
+
+    // JPQL 생성자 표현식용
+    public ProjectSummaryResponseDto(Long projectId, String projectName, String projectTagName, LocalDateTime projectDeadline,
+                                     Integer projectProgressRate, ProjectStatus projectStatus) {
+        this(projectId, projectName, projectTagName, projectDeadline, projectProgressRate, projectStatus == ProjectStatus.DONE);
+    }
+}
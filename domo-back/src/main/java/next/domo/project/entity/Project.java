@@ -10,7 +10,14 @@ import org.hibernate.annotations.OnDeleteAction;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "project")
+@Table(name = "project", indexes = {
+        // 사용자별 목록/필터 조회용 (db/migration과 같은 이름 유지) (user_id를 선두로 두고 상태·태그·정렬 컬럼을 뒤에 붙임)
+        @Index(name = "idx_project_user_status_deadline", columnList = "user_id, project_status, project_deadline"),
+        @Index(name = "idx_project_user_tag_deadline", columnList = "user_id, project_tag_id, project_deadline"),
+        @Index(name = "idx_project_user_progress", columnList = "user_id, project_progress_rate"),
+        @Index(name = "idx_project_user_name", columnList = "user_id, project_name"),
+        @Index(name = "idx_project_user_last_accessed", columnList = "user_id, last_accessed_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -99,6 +106,11 @@ public class Project {
     }
 
     private Integer projectProgressRate;
+
+    // 하위작업 개수 카운터 (null이면 카운터 도입 전 프로젝트라 재계산 필요)
+    private Integer subTaskTotalCount;
+
+    private Integer subTaskDoneCount;
     
     public void setProjectProgressRate(Integer projectProgressRate) {
          this.projectProgressRate = projectProgressRate;
@@ -120,7 +132,25 @@ public class Project {
         return this.projectDescription;
     }
 
-    public void updateLastAccessedAt() {
-        this.lastAccessedAt = LocalDateTime.now();
+    public boolean hasSubTaskCounters() {
+        return subTaskTotalCount != null && subTaskDoneCount != null;
+    }
+
+    public void resetSubTaskCounters(int totalCount, int doneCount, int expectedTime) {
+        this.subTaskTotalCount = totalCount;
+        this.subTaskDoneCount = doneCount;
+        this.projectExpectedTime = expectedTime;
+    }
+
+    // 카운터 기준으로 진행률과 진행 상태 갱신 (완료된 프로젝트 상태는 유지)
+    public void refreshProgress() {
+        int total = subTaskTotalCount == null ? 0 : subTaskTotalCount;
+        int done = subTaskDoneCount == null ? 0 : subTaskDoneCount;
+        this.projectProgressRate = total == 0 ? 0 : done * 100 / total;
+
+        if (this.projectStatus == ProjectStatus.DONE) {
+            return;
+        }
+        this.projectStatus = total > 0 && done == total ? ProjectStatus.ALMOST_DONE : ProjectStatus.IN_PROGRESS;
     }
 }
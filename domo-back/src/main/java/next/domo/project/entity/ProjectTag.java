@@ -7,7 +7,7 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
-@Table(name = "project_tag")
+@Table(name = "project_tag", uniqueConstraints = @UniqueConstraint(name = "uk_project_tag_user_name", columnNames = {"user_id", "project_tag_name"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
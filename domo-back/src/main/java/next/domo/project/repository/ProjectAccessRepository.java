@@ -0,0 +1,37 @@
+package next.domo.project.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 프로젝트 최근 접속 시각을 JDBC batch UPDATE로 한 번에 반영
+@Repository
+@RequiredArgsConstructor
+public class ProjectAccessRepository {
+
+    // 이미 더 최근 시각이 저장되어 있으면 덮어쓰지 않음
+    private static final String UPDATE_SQL = """
+            UPDATE project SET last_accessed_at = ?
+            WHERE project_id = ? AND last_accessed_at < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jpa.jdbc.batch-size:50}")
+    private int batchSize;
+
+    public void updateLastAccessedAt(List<Map.Entry<Long, LocalDateTime>> accesses) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, accesses, batchSize, (ps, access) -> {
+            Timestamp accessedAt = Timestamp.valueOf(access.getValue());
+            ps.setTimestamp(1, accessedAt);
+            ps.setLong(2, access.getKey());
+            ps.setTimestamp(3, accessedAt);
+        });
+    }
+}
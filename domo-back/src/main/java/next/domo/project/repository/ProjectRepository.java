@@ -1,12 +1,17 @@
 package next.domo.project.repository;
 
+import next.domo.project.dto.ProjectListResponseDto;
+import next.domo.project.dto.ProjectSummaryResponseDto;
 import next.domo.project.entity.Project;
-import org.springframework.data.domain.Sort;
+import next.domo.project.entity.ProjectStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +19,58 @@ import java.util.Optional;
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     boolean existsByProjectTag_ProjectTagId(Long projectTagId);
     List<Project> findByUserUserId(Long userId);
-    List<Project> findByProjectTag_ProjectTagIdIn(List<Long> tagIds, Sort sort);
-    List<Project> findAll(Sort sort);
 
-    @Query("SELECT p FROM Project p WHERE p.user.userId = :userId AND p.projectStatus <> 'DONE' ORDER BY p.lastAccessedAt DESC")
-    Optional<Project> findTopByUserIdAndNotDoneOrderByLastAccessedAtDesc(@Param("userId") Long userId);
-}
\ No newline at end of file
+    @Query("SELECT new next.domo.project.dto.ProjectListResponseDto(" +
+            "p.projectId, p.projectName, t.projectTagName, p.projectDeadline, p.projectProgressRate, p.projectDescription, p.projectStatus) " +
+            "FROM Project p JOIN p.projectTag t WHERE p.user.userId = :userId")
+    List<ProjectListResponseDto> findListByUserId(@Param("userId") Long userId);
+
+    // projectId 내림차순 커서 페이지 (cursor보다 작은 id부터)
+    @Query("SELECT new next.domo.project.dto.ProjectSummaryResponseDto(" +
+            "p.projectId, p.projectName, t.projectTagName, p.projectDeadline, p.projectProgressRate, p.projectStatus) " +
+            "FROM Project p JOIN p.projectTag t " +
+            "WHERE p.user.userId = :userId AND (:cursor IS NULL OR p.projectId < :cursor) " +
+            "ORDER BY p.projectId DESC")
+    List<ProjectSummaryResponseDto> findSummaryPageByUserId(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+    Optional<Project> findByProjectIdAndUserUserId(Long projectId, Long userId);
+    List<Project> findByUserUserIdAndProjectIdIn(Long userId, Collection<Long> projectIds);
+    List<Project> findByUserUserIdAndProjectLevelIsNull(Long userId);
+
+    // 사용자 범위 안에서 상태(null이면 전체)로 필터링, 정렬/페이지는 Pageable로 DB에서 처리
+    @Query("SELECT new next.domo.project.dto.ProjectListResponseDto(" +
+            "p.projectId, p.projectName, t.projectTagName, p.projectDeadline, p.projectProgressRate, p.projectDescription, p.projectStatus) " +
+            "FROM Project p JOIN p.projectTag t " +
+            "WHERE p.user.userId = :userId AND (:status IS NULL OR p.projectStatus = :status)")
+    List<ProjectListResponseDto> searchByUserId(@Param("userId") Long userId,
+                                                @Param("status") ProjectStatus status,
+                                                Pageable pageable);
+
+    // 위 조회에 태그 조건 추가
+    @Query("SELECT new next.domo.project.dto.ProjectListResponseDto(" +
+            "p.projectId, p.projectName, t.projectTagName, p.projectDeadline, p.projectProgressRate, p.projectDescription, p.projectStatus) " +
+            "FROM Project p JOIN p.projectTag t " +
+            "WHERE p.user.userId = :userId AND (:status IS NULL OR p.projectStatus = :status) " +
+            "AND t.projectTagId IN :projectTagIds")
+    List<ProjectListResponseDto> searchByUserIdAndTagIds(@Param("userId") Long userId,
+                                                         @Param("status") ProjectStatus status,
+                                                         @Param("projectTagIds") Collection<Long> projectTagIds,
+                                                         Pageable pageable);
+
+    Optional<Project> findFirstByUserUserIdAndProjectStatusNotOrderByLastAccessedAtDesc(Long userId, ProjectStatus projectStatus);
+
+    // 하위작업 변경분을 카운터에 원자적으로 더함 (행 잠금이 트랜잭션 끝까지 유지되어 동시 완료 처리도 직렬화됨)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Project p SET p.subTaskTotalCount = p.subTaskTotalCount + :totalDelta, " +
+            "p.subTaskDoneCount = p.subTaskDoneCount + :doneDelta, " +
+            "p.projectExpectedTime = COALESCE(p.projectExpectedTime, 0) + :expectedTimeDelta " +
+            "WHERE p.projectId = :projectId")
+    int applySubTaskDelta(@Param("projectId") Long projectId,
+                          @Param("totalDelta") int totalDelta,
+                          @Param("doneDelta") int doneDelta,
+                          @Param("expectedTimeDelta") int expectedTimeDelta);
+
+    // 같은 난이도의 프로젝트를 한 번의 UPDATE로 반영
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Project p SET p.projectLevel = :projectLevel WHERE p.user.userId = :userId AND p.projectId IN :projectIds")
+    int updateProjectLevel(@Param("userId") Long userId, @Param("projectLevel") Integer projectLevel, @Param("projectIds") Collection<Long> projectIds);
+}
@@ -0,0 +1,112 @@
+package next.domo.project.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import next.domo.project.repository.ProjectAccessRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 프로젝트 상세 조회 때마다 UPDATE하지 않고, 최근 접속 시각을 메모리에 모았다가 주기적으로 한 번에 반영
+// 아직 반영되지 않은 접속은 사용자별 마지막 접속으로도 들고 있어서 최근 프로젝트 조회에 함께 사용한다.
+@Slf4j
+@Component
+public class ProjectAccessBuffer {
+
+    public record Access(Long projectId, LocalDateTime accessedAt) {
+    }
+
+    private final ProjectAccessRepository projectAccessRepository;
+    private final int maxPending;
+
+    // projectId -> 마지막 접속 시각
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    // userId -> 아직 반영되지 않은 마지막 접속
+    private final ConcurrentHashMap<Long, Access> latestByUser = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ProjectAccessBuffer(ProjectAccessRepository projectAccessRepository,
+                               @Value("${project.access.buffer.max-size:10000}") int maxPending) {
+        this.projectAccessRepository = projectAccessRepository;
+        this.maxPending = maxPending;
+    }
+
+    public void record(Long userId, Long projectId) {
+        LocalDateTime now = LocalDateTime.now();
+        pending.merge(projectId, now, (prev, next) -> next.isAfter(prev) ? next : prev);
+        latestByUser.merge(userId, new Access(projectId, now),
+                (prev, next) -> next.accessedAt().isAfter(prev.accessedAt()) ? next : prev);
+
+        // 쌓인 양이 너무 많으면 다음 주기를 기다리지 않고 반영 (다른 스레드가 반영 중이면 넘어감)
+        if (pending.size() >= maxPending && flushLock.tryLock()) {
+            try {
+                flushPending();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    public Optional<Access> findLatest(Long userId) {
+        return Optional.ofNullable(latestByUser.get(userId));
+    }
+
+    @Scheduled(fixedDelayString = "${project.access.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, LocalDateTime>> accesses = new ArrayList<>();
+        for (Long projectId : pending.keySet()) {
+            LocalDateTime accessedAt = pending.remove(projectId);
+            if (accessedAt != null) {
+                accesses.add(Map.entry(projectId, accessedAt));
+            }
+        }
+
+        try {
+            projectAccessRepository.updateLastAccessedAt(accesses);
+        } catch (DataAccessException e) {
+            // 실패한 항목은 다시 넣어서 다음 주기에 재시도 (그 사이 더 최근 접속이 있으면 그 값 유지)
+            accesses.forEach(access -> pending.merge(access.getKey(), access.getValue(),
+                    (current, failed) -> current.isAfter(failed) ? current : failed));
+            log.warn("프로젝트 최근 접속 시각 반영 실패 ({}건): {}", accesses.size(), e.getMessage());
+            return;
+        }
+
+        // DB에 반영된 사용자별 마지막 접속은 정리 (반영 이후 새로 들어온 접속은 유지)
+        Map<Long, LocalDateTime> flushed = new HashMap<>();
+        accesses.forEach(access -> flushed.put(access.getKey(), access.getValue()));
+        latestByUser.forEach((userId, latest) -> {
+            LocalDateTime flushedAt = flushed.get(latest.projectId());
+            if (flushedAt != null && !flushedAt.isBefore(latest.accessedAt())) {
+                latestByUser.remove(userId, latest);
+            }
+        });
+    }
+}
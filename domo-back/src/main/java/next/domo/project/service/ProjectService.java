@@ -9,17 +9,22 @@ import next.domo.project.entity.ProjectTag;
 import next.domo.project.repository.ProjectRepository;
 import next.domo.project.repository.ProjectTagRepository;
 import next.domo.subtask.repository.SubTaskRepository;
+import next.domo.user.entity.CoinTransaction;
 import next.domo.user.entity.User;
+import next.domo.user.enums.CoinTransactionType;
 import next.domo.user.repository.UserRepository;
+import next.domo.user.service.CoinLedgerService;
 import next.domo.user.service.UserService;
-import next.domo.user.service.UserTagService;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
 import java.lang.IllegalStateException;
 import java.time.LocalDateTime;
 
@@ -28,12 +33,15 @@ import java.time.LocalDateTime;
 @Transactional
 public class ProjectService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProjectRepository projectRepository;
     private final ProjectTagRepository projectTagRepository;
     private final UserService userService;
     private final UserRepository userRepository;
     private final SubTaskRepository subTaskRepository;
-    private final UserTagService userTagService;
+    private final ProjectAccessBuffer projectAccessBuffer;
+    private final CoinLedgerService coinLedgerService;
 
     public Long createProject(ProjectCreateRequestDto requestDto) {
         Long userId = userService.getCurrentUserId();
@@ -52,6 +60,8 @@ public class ProjectService {
                 .projectDeadline(requestDto.getProjectDeadline())
                 .projectExpectedTime(0) // 하위 작업으로 합산 예정
                 .projectProgressRate(0)
+                .subTaskTotalCount(0)
+                .subTaskDoneCount(0)
                 .projectStatus(ProjectStatus.IN_PROGRESS)
                 .lastAccessedAt(LocalDateTime.now())
                 .build();
@@ -62,17 +72,30 @@ public class ProjectService {
 
     public List<ProjectListResponseDto> getAllProjects() {
         Long userId = userService.getCurrentUserId();
-        return projectRepository.findByUserUserId(userId).stream()
-        .map(ProjectListResponseDto::from)
-        .collect(Collectors.toList());
+        return projectRepository.findListByUserId(userId);
+    }
+
+    // 최신 프로젝트부터 size개씩 조회, 한 개 더 읽어서 다음 페이지 존재 여부 판단
+    @Transactional(readOnly = true)
+    public ProjectPageResponseDto<ProjectSummaryResponseDto> getProjectPage(Long cursor, int size) {
+        Long userId = userService.getCurrentUserId();
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<ProjectSummaryResponseDto> rows = projectRepository.findSummaryPageByUserId(userId, cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<ProjectSummaryResponseDto> projects = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? projects.get(projects.size() - 1).getProjectId() : null;
+        return new ProjectPageResponseDto<>(projects, nextCursor, hasNext);
     }
 
 
+    @Transactional(readOnly = true)
     public ProjectDetailResponseDto getProjectDetail(Long projectId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다."));
 
-        project.updateLastAccessedAt();
+        // 접속 시각은 버퍼에 기록했다가 주기적으로 일괄 반영
+        projectAccessBuffer.record(project.getUser().getUserId(), projectId);
 
         return new ProjectDetailResponseDto(
                 project.getProjectName(),
@@ -117,40 +140,65 @@ public class ProjectService {
         projectRepository.deleteById(projectId);
     }
 
+    // 아직 DB에 반영되지 않은 접속이 있으면 그 프로젝트를 우선 사용
+    @Transactional(readOnly = true)
     public ProjectListResponseDto getRecentProject() {
         Long userId = userService.getCurrentUserId();
-        return projectRepository
-                .findTopByUserIdAndNotDoneOrderByLastAccessedAtDesc(userId)
+        return projectAccessBuffer.findLatest(userId)
+                .flatMap(access -> projectRepository.findByProjectIdAndUserUserId(access.projectId(), userId))
+                .filter(project -> project.getProjectStatus() != ProjectStatus.DONE)
+                .or(() -> projectRepository.findFirstByUserUserIdAndProjectStatusNotOrderByLastAccessedAtDesc(userId, ProjectStatus.DONE))
                 .map(ProjectListResponseDto::from)
                 .orElse(null); // 완료되지 않은 프로젝트가 없을 경우 null 반환
     }
 
+    // 카운터는 하위작업 변경 시 함께 갱신되므로, 아래 두 메서드는 하위작업 기준으로 다시 맞추는 용도
     public void updateProjectExpectedTime(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다."));
-    
-        Integer totalExpectedTime = subTaskRepository.sumExpectedTimeByProjectId(projectId);
-        if (totalExpectedTime == null) totalExpectedTime = 0; // null 방지
-    
-        project.setProjectExpectedTime(totalExpectedTime);
-        projectRepository.save(project);
+        recountSubTaskCounters(getProjectEntityById(projectId));
     }
 
     public void updateProjectProgressRate(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다."));
-    
+        recountSubTaskCounters(getProjectEntityById(projectId));
+    }
+
+    // 하위작업 생성/삭제/완료/취소/수정분을 같은 트랜잭션에서 프로젝트 카운터에 반영
+    public void applySubTaskDelta(Long projectId, int totalDelta, int doneDelta, int expectedTimeDelta) {
+        Project project = getProjectEntityById(projectId);
+        if (!project.hasSubTaskCounters()) {
+            // 카운터 도입 전 프로젝트는 이번 변경까지 포함해서 한 번 다시 셈
+            recountSubTaskCounters(project);
+            return;
+        }
+        if (totalDelta == 0 && doneDelta == 0 && expectedTimeDelta == 0) {
+            return;
+        }
+
+        projectRepository.applySubTaskDelta(projectId, totalDelta, doneDelta, expectedTimeDelta);
+        getProjectEntityById(projectId).refreshProgress();
+    }
+
+    private void recountSubTaskCounters(Project project) {
+        Long projectId = project.getProjectId();
         Integer total = subTaskRepository.countAllByProjectId(projectId);
         Integer done = subTaskRepository.countDoneByProjectId(projectId);
-        
-        if (total == null || total == 0) {
-            project.setProjectProgressRate(0);
-        } else {
-            int progressRate = (done == null ? 0 : done * 100 / total);
-            project.setProjectProgressRate(progressRate);
+        Integer expectedTime = subTaskRepository.sumExpectedTimeByProjectId(projectId);
+
+        project.resetSubTaskCounters(
+                total == null ? 0 : total,
+                done == null ? 0 : done,
+                expectedTime == null ? 0 : expectedTime); // null 방지
+        project.refreshProgress();
+    }
+
+    // 난이도별로 묶어서 일괄 저장 (최대 난이도 종류 수만큼의 UPDATE)
+    public int updateProjectLevels(Long userId, Map<ProjectLevelType, List<Long>> projectIdsByLevel) {
+        int updated = 0;
+        for (Map.Entry<ProjectLevelType, List<Long>> entry : projectIdsByLevel.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                updated += projectRepository.updateProjectLevel(userId, entry.getKey().getFactor(), entry.getValue());
+            }
         }
-        
-        projectRepository.save(project);
+        return updated;
     }
 
     public Project getProjectEntityById(Long projectId) {
@@ -159,8 +207,17 @@ public class ProjectService {
     }
 
     public int completeAndRewardProject(Project project) {
+        // 이미 보상한 프로젝트면 같은 금액을 그대로 반환 (중복 지급 없음)
+        String rewardKey = "project-reward:" + project.getProjectId();
+        Optional<CoinTransaction> rewarded = coinLedgerService.findByIdempotencyKey(rewardKey);
+        if (rewarded.isPresent()) {
+            return rewarded.get().getAmount();
+        }
+
         // ✅ 하위작업 존재 여부 확인
-        int subTaskCount = subTaskRepository.countAllByProjectId(project.getProjectId());
+        int subTaskCount = project.hasSubTaskCounters()
+                ? project.getSubTaskTotalCount()
+                : subTaskRepository.countAllByProjectId(project.getProjectId());
         if (subTaskCount == 0) {
             throw new IllegalStateException("하위작업이 존재하지 않으므로 프로젝트를 완료할 수 없습니다.");
         }
@@ -191,44 +248,50 @@ public class ProjectService {
         project.markAsDone();
         projectRepository.save(project);
 
-        // 6. 유저에게 코인 지급
-        User user = project.getUser();
-        user.addCoin(coin);
-        userRepository.save(user);
+        // 6. 유저에게 코인 지급 (잔액 UPDATE + 원장 기록)
+        coinLedgerService.credit(project.getUser().getUserId(), coin, CoinTransactionType.PROJECT_REWARD,
+                project.getProjectId(), rewardKey);
 
-        //  사용자 하위작업 태그 예측 대비 소요율 갱신
-        userTagService.updateUserTagRates(user);
+        // 태그별 소요율은 하위작업 시간이 기록될 때마다 누적 갱신됨
 
         return coin;
     }
 
+    @Transactional(readOnly = true)
     public List<ProjectListResponseDto> getCompletedProjects() {
         Long userId = userService.getCurrentUserId();
-        return projectRepository.findByUserUserId(userId).stream()
-                .filter(project -> project.getProjectStatus() == ProjectStatus.DONE)
-                .map(ProjectListResponseDto::from)
-                .collect(Collectors.toList());
+        return projectRepository.searchByUserId(userId, ProjectStatus.DONE, Pageable.unpaged());
     }
 
-    public List<ProjectListResponseDto> getProjectListResponses(List<Long> projectTagIds, String sortBy) {
-        Sort sort = switch (sortBy) {
-            case "name" -> Sort.by("projectName").ascending();
-            case "progress" -> Sort.by("projectProgressRate").descending();
-            case "deadline" -> Sort.by("projectDeadline").ascending();
-            default -> Sort.unsorted();
-        };
-
-        List<Project> projects;
+    // 필터링, 정렬, 페이지 모두 DB에서 처리 (현재 사용자 프로젝트만)
+    // size가 없으면 기존처럼 전체를 반환 (응답에 페이지 정보가 없어서 임의로 잘라내지 않음)
+    @Transactional(readOnly = true)
+    public List<ProjectListResponseDto> getProjectListResponses(List<Long> projectTagIds, ProjectStatus status,
+                                                                String sortBy, int page, Integer size) {
+        Long userId = userService.getCurrentUserId();
+        Sort sort = toProjectSort(sortBy);
+        Pageable pageable = size == null
+                ? Pageable.unpaged(sort)
+                : PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE), sort);
 
         if (projectTagIds != null && !projectTagIds.isEmpty()) {
-            projects = projectRepository.findByProjectTag_ProjectTagIdIn(projectTagIds, sort);
-        } else {
-            projects = projectRepository.findAll(sort);
+            return projectRepository.searchByUserIdAndTagIds(userId, status, projectTagIds, pageable);
         }
+        return projectRepository.searchByUserId(userId, status, pageable);
+    }
 
-        return projects.stream()
-                .map(ProjectListResponseDto::from)
-                .toList();
+    // 같은 값끼리는 projectId로 순서를 고정해서 페이지 사이에 누락/중복이 없도록 함
+    private Sort toProjectSort(String sortBy) {
+        Sort tieBreaker = Sort.by("projectId").descending();
+        if (sortBy == null) {
+            return tieBreaker;
+        }
+        return switch (sortBy) {
+            case "name" -> Sort.by("projectName").ascending().and(tieBreaker);
+            case "progress" -> Sort.by("projectProgressRate").descending().and(tieBreaker);
+            case "deadline" -> Sort.by("projectDeadline").ascending().and(tieBreaker);
+            default -> tieBreaker;
+        };
     }
 
 }
@@ -0,0 +1,10 @@
+package next.domo.subtask.dto;
+
+import next.domo.subtask.entity.SubTaskTag;
+
+// 사용자의 태그별 (예측 대비 소요율) 표본 수와 합계
+public interface TagRateAggregate {
+    SubTaskTag getSubTaskTag();
+    Long getSampleCount();
+    Double getRateSum();
+}
@@ -14,6 +14,7 @@ import org.hibernate.annotations.OnDeleteAction;
 @Builder
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_sub_task_project_order", columnList = "project_id, sub_task_order"))
 public class SubTask {
 
     @Id
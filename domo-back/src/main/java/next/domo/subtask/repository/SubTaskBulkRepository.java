@@ -0,0 +1,38 @@
+package next.domo.subtask.repository;
+
+import lombok.RequiredArgsConstructor;
+import next.domo.subtask.dto.SubTaskCreateForListDto;
+import next.domo.subtask.entity.SubTaskTag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 하위작업 여러 개를 JDBC batch INSERT로 한 번에 저장
+// SubTask는 IDENTITY 키라서 JPA save로는 INSERT가 배치되지 않는다.
+@Repository
+@RequiredArgsConstructor
+public class SubTaskBulkRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO sub_task (project_id, sub_task_order, sub_task_name, sub_task_expected_time, sub_task_is_done, sub_task_tag)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jpa.jdbc.batch-size:50}")
+    private int batchSize;
+
+    public void insertAll(Long projectId, List<SubTaskCreateForListDto> subTasks) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, subTasks, batchSize, (ps, dto) -> {
+            ps.setLong(1, projectId);
+            ps.setInt(2, dto.getSubTaskOrder());
+            ps.setString(3, dto.getSubTaskName());
+            ps.setInt(4, dto.getSubTaskExpectedTime());
+            ps.setBoolean(5, false);
+            ps.setString(6, SubTaskTag.valueOf(dto.getSubTaskTag()).name());
+        });
+    }
+}
@@ -1,18 +1,30 @@
 package next.domo.subtask.repository;
 
 import next.domo.project.entity.Project;
+import next.domo.subtask.dto.TagRateAggregate;
 import next.domo.subtask.entity.SubTask;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SubTaskRepository extends JpaRepository<SubTask, Long> {
     List<SubTask> findAllByProject(Project project);
 
+    // 소유자가 맞을 때만 프로젝트와 함께 조회
+    @Query("SELECT s FROM SubTask s JOIN FETCH s.project p WHERE s.subTaskId = :subTaskId AND p.user.userId = :userId")
+    Optional<SubTask> findByIdAndOwner(@Param("subTaskId") Long subTaskId, @Param("userId") Long userId);
+
+    // 상태가 실제로 바뀐 경우에만 1 반환 (중복 완료/취소 요청이 카운터를 두 번 바꾸지 않도록)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SubTask s SET s.subTaskIsDone = :done WHERE s.subTaskId = :subTaskId AND s.subTaskIsDone <> :done")
+    int updateDoneIfChanged(@Param("subTaskId") Long subTaskId, @Param("done") boolean done);
+
     @Query("SELECT SUM(s.subTaskExpectedTime) FROM SubTask s WHERE s.project.projectId = :projectId")
     Integer sumExpectedTimeByProjectId(@Param("projectId") Long projectId);
 
@@ -24,4 +36,12 @@ public interface SubTaskRepository extends JpaRepository<SubTask, Long> {
     
     @Query("SELECT s FROM SubTask s WHERE s.project.user.userId = :userId")
     List<SubTask> findAllByUserId(@Param("userId") Long userId);
+
+    // 태그별 소요율 표본 수와 합계를 DB에서 한 번에 집계 (예상 시간이 0 이하면 1.0으로 계산)
+    @Query("SELECT s.subTaskTag AS subTaskTag, COUNT(s) AS sampleCount, " +
+            "SUM(CASE WHEN s.subTaskExpectedTime <= 0 THEN 1.0 ELSE s.subTaskActualTime * 1.0 / s.subTaskExpectedTime END) AS rateSum " +
+            "FROM SubTask s " +
+            "WHERE s.project.user.userId = :userId AND s.subTaskExpectedTime IS NOT NULL AND s.subTaskActualTime IS NOT NULL " +
+            "GROUP BY s.subTaskTag")
+    List<TagRateAggregate> aggregateTagRatesByUserId(@Param("userId") Long userId);
 }    
@@ -8,10 +8,10 @@ import next.domo.project.repository.ProjectRepository;
 import next.domo.project.service.ProjectService;
 import next.domo.subtask.dto.*;
 import next.domo.subtask.entity.SubTask;
+import next.domo.subtask.repository.SubTaskBulkRepository;
 import next.domo.subtask.repository.SubTaskRepository;
-import next.domo.user.entity.User;
-import next.domo.user.repository.UserRepository;
 import next.domo.project.entity.ProjectLevelType;
+import next.domo.user.service.UserTagService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,32 +26,24 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SubTaskService {
     private final SubTaskRepository subTaskRepository;
+    private final SubTaskBulkRepository subTaskBulkRepository;
     private final ProjectRepository projectRepository;
-    private final UserRepository userRepository;
     private final ProjectService projectService;
+    private final UserTagService userTagService;
 
+    // 소유자 조건까지 포함한 한 번의 조회로 검증, 실패한 경우에만 원인 구분용 조회 추가
     protected Project validateProjectOwner(Long userId, Long projectId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 아이디를 가진 사용자를 찾을 수 없습니다."));
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 아이디를 가진 프로젝트를 찾을 수 없습니다."));
-
-        if (!project.getUser().equals(user)) {
-            throw new IllegalArgumentException("해당 사용자는 이 프로젝트의 소유자가 아닙니다.");
-        }
-        return project;
+        return projectRepository.findByProjectIdAndUserUserId(projectId, userId)
+                .orElseThrow(() -> projectRepository.existsById(projectId)
+                        ? new IllegalArgumentException("해당 사용자는 이 프로젝트의 소유자가 아닙니다.")
+                        : new EntityNotFoundException("해당 아이디를 가진 프로젝트를 찾을 수 없습니다."));
     }
 
     protected SubTask validateSubTaskOwner(Long userId, Long subTaskId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 아이디를 가진 사용자를 찾을 수 없습니다."));
-        SubTask subTask = subTaskRepository.findById(subTaskId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 아이디를 가진 하위작업을 찾을 수 없습니다."));
-
-        if (!subTask.getProject().getUser().equals(user)) {
-            throw new IllegalArgumentException("해당 사용자는 이 하위작업의 소유자가 아닙니다.");
-        }
-        return subTask;
+        return subTaskRepository.findByIdAndOwner(subTaskId, userId)
+                .orElseThrow(() -> subTaskRepository.existsById(subTaskId)
+                        ? new IllegalArgumentException("해당 사용자는 이 하위작업의 소유자가 아닙니다.")
+                        : new EntityNotFoundException("해당 아이디를 가진 하위작업을 찾을 수 없습니다."));
     }
 
     // subtask 생성 -> GPT
@@ -62,6 +54,7 @@ public class SubTaskService {
         Project project = validateProjectOwner(userId, projectId);
         SubTask newSubTask = subTaskCreateDto.toEntity(project);
         subTaskRepository.save(newSubTask);
+        projectService.applySubTaskDelta(projectId, 1, 0, minutesOf(newSubTask.getSubTaskExpectedTime()));
     }
 
     // project에 대한 subtask 조회
@@ -79,31 +72,52 @@ public class SubTaskService {
     // subtask 수정
     public void updateSubTask(Long userId, Long subTaskId, SubTaskUpdateDto subTaskUpdateDto) {
         SubTask subTask = validateSubTaskOwner(userId, subTaskId);
+        Integer previousExpectedTime = subTask.getSubTaskExpectedTime();
         subTask.updateSubTask(subTaskUpdateDto);
+        userTagService.applySubTaskTimeChange(userId, subTask.getSubTaskTag(),
+                previousExpectedTime, subTask.getSubTaskActualTime(),
+                subTask.getSubTaskExpectedTime(), subTask.getSubTaskActualTime());
+        projectService.applySubTaskDelta(subTask.getProject().getProjectId(), 0, 0,
+                subTaskUpdateDto.getSubTaskExpectedTime() - minutesOf(previousExpectedTime));
     }
 
     // subtask 삭제
     public void deleteSubTask(Long userId, Long subTaskId) {
         SubTask subTask = validateSubTaskOwner(userId, subTaskId);
+        Long projectId = subTask.getProject().getProjectId();
+        int doneDelta = subTask.isSubTaskIsDone() ? -1 : 0;
+        int expectedTimeDelta = -minutesOf(subTask.getSubTaskExpectedTime());
 
         subTaskRepository.delete(subTask);
+        userTagService.applySubTaskTimeChange(userId, subTask.getSubTaskTag(),
+                subTask.getSubTaskExpectedTime(), subTask.getSubTaskActualTime(), null, null);
+        projectService.applySubTaskDelta(projectId, -1, doneDelta, expectedTimeDelta);
     }
 
     // subtask 시간 저장
     public void saveSubTaskTime(Long userId, Long subTaskId, SubTaskTimeDto subTaskTimeDto) {
         SubTask subTask = validateSubTaskOwner(userId, subTaskId);
+        Integer previousActualTime = subTask.getSubTaskActualTime();
         subTask.saveSubTaskTime(subTaskTimeDto);
+        userTagService.applySubTaskTimeChange(userId, subTask.getSubTaskTag(),
+                subTask.getSubTaskExpectedTime(), previousActualTime,
+                subTask.getSubTaskExpectedTime(), subTask.getSubTaskActualTime());
     }
 
     // subtask 생성 후 한번에 저장
+    // JDBC batch INSERT 후 같은 트랜잭션에서 프로젝트 카운터와 예상 소요시간 갱신
     public void createSubTaskByProject(Long userId, Long projectId, List<SubTaskCreateForListDto> subTaskCreateForListDtos) {
-        Project project = validateProjectOwner(userId, projectId);
+        validateProjectOwner(userId, projectId);
 
-        for (SubTaskCreateForListDto dto : subTaskCreateForListDtos) {
-            SubTask subTask = dto.toEntity(project);
-            subTaskRepository.save(subTask);
+        if (subTaskCreateForListDtos.isEmpty()) {
+            return;
         }
+        subTaskBulkRepository.insertAll(projectId, subTaskCreateForListDtos);
 
+        int expectedTimeSum = subTaskCreateForListDtos.stream()
+                .mapToInt(SubTaskCreateForListDto::getSubTaskExpectedTime)
+                .sum();
+        projectService.applySubTaskDelta(projectId, subTaskCreateForListDtos.size(), 0, expectedTimeSum);
     }
 
     // subtask 수정사항 한번에 저장
@@ -114,45 +128,48 @@ public class SubTaskService {
         Map<Long, SubTaskAllUpdateDto> dtoMap = subTaskAllUpdateDtos.stream()
                 .collect(Collectors.toMap(SubTaskAllUpdateDto::getSubTaskId, dto -> dto));
 
+        int expectedTimeDelta = 0;
         for (SubTask subTask : subTasks) {
             SubTaskAllUpdateDto dto = dtoMap.get(subTask.getSubTaskId());
             if (dto != null) {
+                Integer previousExpectedTime = subTask.getSubTaskExpectedTime();
+                expectedTimeDelta += dto.getSubTaskExpectedTime() - minutesOf(previousExpectedTime);
                 subTask.updateAllSubTask(dto);
+                userTagService.applySubTaskTimeChange(userId, subTask.getSubTaskTag(),
+                        previousExpectedTime, subTask.getSubTaskActualTime(),
+                        subTask.getSubTaskExpectedTime(), subTask.getSubTaskActualTime());
             }
         }
-
+        projectService.applySubTaskDelta(projectId, 0, 0, expectedTimeDelta);
     }
 
     // subtask 완료
+    // 실제로 상태가 바뀐 경우에만 완료 카운터를 올리고, 모두 완료되면 ALMOST_DONE으로 전환
     public void doneSubTask(Long userId, Long subTaskId) {
         SubTask subTask = validateSubTaskOwner(userId, subTaskId);
-        subTask.doneSubTask();
-    
-        Project project = subTask.getProject();
-        List<SubTask> subTasks = subTaskRepository.findAllByProject(project);
-        boolean allDone = subTasks.stream().allMatch(SubTask::isSubTaskIsDone);
-    
-        if (allDone) {
-            project.markAsAlmostDone();
-            projectRepository.save(project);
+        Long projectId = subTask.getProject().getProjectId();
+
+        if (subTaskRepository.updateDoneIfChanged(subTaskId, true) == 1) {
+            projectService.applySubTaskDelta(projectId, 0, 1, 0);
         }
     }
 
     // subtask 미완료
+    // '모두 완료' 상태가 깨졌다면 카운터 갱신 시 프로젝트 상태도 다시 되돌림
     public void undoneSubTask(Long userId, Long subTaskId) {
         SubTask subTask = validateSubTaskOwner(userId, subTaskId);
-        subTask.undoneSubTask();
-
-        Project project = subTask.getProject();
+        Long projectId = subTask.getProject().getProjectId();
 
-        // '모두 완료' 상태가 깨졌다면 프로젝트 상태를 다시 되돌림
-        if (project.isAlmostDone()) {
-            project.markAsInProcess();
-            projectRepository.save(project);
+        if (subTaskRepository.updateDoneIfChanged(subTaskId, false) == 1) {
+            projectService.applySubTaskDelta(projectId, 0, -1, 0);
         }
     }
 
 
+    private int minutesOf(Integer expectedTime) {
+        return expectedTime == null ? 0 : expectedTime;
+    }
+
     private SubTaskResponseDto toDto(SubTask subTask) {
         return SubTaskResponseDto.builder()
                 .subTaskId(subTask.getSubTaskId())
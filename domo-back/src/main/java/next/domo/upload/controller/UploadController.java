@@ -1,32 +1,35 @@
 package next.domo.upload.controller;
 
 import lombok.RequiredArgsConstructor;
-import next.domo.upload.service.S3Service;
+import next.domo.upload.service.FileUploadService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/upload")
 @RequiredArgsConstructor
 public class UploadController {
 
-    private final S3Service s3Service;
+    private final FileUploadService fileUploadService;
 
     private static final List<String> allowedTypes = List.of("character", "item", "quest");
 
     @PostMapping("/{type}")
-    public ResponseEntity<String> uploadFileByType(
+    public CompletableFuture<ResponseEntity<String>> uploadFileByType(
             @PathVariable String type,
             @RequestPart MultipartFile file
     ) {
         if (!allowedTypes.contains(type)) {
-            return ResponseEntity.badRequest().body("잘못된 업로드 타입입니다. (character, item, quest만 허용)");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body("잘못된 업로드 타입입니다. (character, item, quest만 허용)"));
         }
 
-        String url = s3Service.uploadFile(file, type);
-        return ResponseEntity.ok(url);
+        // 업로드가 끝나면 응답 (요청 스레드는 바로 반환)
+        return fileUploadService.uploadFile(file, type)
+                .thenApply(ResponseEntity::ok);
     }
 }
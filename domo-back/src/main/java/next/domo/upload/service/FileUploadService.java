@@ -0,0 +1,63 @@
+package next.domo.upload.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import next.domo.upload.storage.ObjectStorage;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileUploadService {
+
+    private final ObjectStorage objectStorage;
+
+    // 업로드 파일을 임시 파일로 옮긴 뒤 비동기로 저장소에 올리고, 끝나면 임시 파일 삭제
+    // (요청이 끝나면 multipart 파일이 정리되므로 임시 파일 이동은 요청 스레드에서 처리)
+    public CompletableFuture<String> uploadFile(MultipartFile file, String folder) {
+        String fileName = generateFileName(file.getOriginalFilename(), folder);
+
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("domo-upload-", ".tmp");
+        } catch (IOException e) {
+            throw new RuntimeException("파일 업로드 실패: " + e.getMessage());
+        }
+
+        // 업로드 작업을 넘기기 전에 실패하면 여기서 바로 임시 파일 삭제
+        CompletableFuture<String> upload;
+        try {
+            file.transferTo(tempFile);
+            upload = objectStorage.upload(fileName, tempFile, file.getContentType());
+        } catch (IOException e) {
+            deleteTempFile(tempFile);
+            throw new RuntimeException("파일 업로드 실패: " + e.getMessage());
+        } catch (RuntimeException e) {
+            deleteTempFile(tempFile);
+            throw e;
+        }
+
+        return upload.whenComplete((url, ex) -> deleteTempFile(tempFile));
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일 삭제 실패: {}", tempFile, e);
+        }
+    }
+
+    private String generateFileName(String originalName, String folder) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+        return folder + "/" + timestamp + "_" + originalName;
+    }
+}
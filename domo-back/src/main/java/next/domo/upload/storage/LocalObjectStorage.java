@@ -0,0 +1,76 @@
+package next.domo.upload.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+// 로컬 디렉터리 저장소 (온프레미스/오프라인 테스트용)
+// 파일은 baseUrl 아래로 정적 리소스로 제공된다.
+public class LocalObjectStorage implements ObjectStorage {
+
+    private final Path root;
+    private final String baseUrl;
+    private final Executor executor;
+
+    public LocalObjectStorage(Path root, String baseUrl, Executor executor) {
+        this.root = root.toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<String> upload(String key, Path file, String contentType) {
+        Path target = resolve(key);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectories(target.getParent());
+                Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new UncheckedIOException("로컬 저장소 업로드 실패: " + key, e);
+            }
+            return baseUrl + key;
+        }, executor);
+    }
+
+    @Override
+    public List<StoredObject> list(String prefix) {
+        Path directory = resolve(prefix);
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .map(this::toStoredObject)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장소 조회 실패: " + prefix, e);
+        }
+    }
+
+    private StoredObject toStoredObject(Path path) {
+        String key = root.relativize(path).toString().replace('\\', '/');
+        try {
+            // 로컬에서는 크기와 수정 시각으로 변경 여부 판단
+            long size = Files.size(path);
+            String eTag = size + "-" + Files.getLastModifiedTime(path).toMillis();
+            return new StoredObject(key, baseUrl + key, eTag, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장소 파일 정보 조회 실패: " + key, e);
+        }
+    }
+
+    // root 밖으로 나가는 key는 거절
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+}
@@ -0,0 +1,16 @@
+package next.domo.upload.storage;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// 파일 저장소 추상화 (storage.type=s3 | local)
+// 업로드는 요청 스레드를 막지 않도록 CompletableFuture로 완료를 알린다.
+public interface ObjectStorage {
+
+    // file 내용을 key 위치에 저장하고, 접근 URL로 완료
+    CompletableFuture<String> upload(String key, Path file, String contentType);
+
+    // prefix 아래 모든 파일 (페이지가 나뉘어 있어도 전부 모아서 반환)
+    List<StoredObject> list(String prefix);
+}
@@ -0,0 +1,64 @@
+package next.domo.upload.storage;
+
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// S3 저장소 (애플리케이션 전체에서 S3AsyncClient 하나를 공유해서 연결을 재사용)
+// CRT 클라이언트를 쓰면 큰 파일은 자동으로 multipart로 나눠 병렬 업로드된다.
+public class S3ObjectStorage implements ObjectStorage {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucket;
+    private final String baseUrl;
+
+    public S3ObjectStorage(S3AsyncClient s3AsyncClient, String bucket, String region) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucket = bucket;
+        this.baseUrl = "https://" + bucket + ".s3." + region + ".amazonaws.com/";
+    }
+
+    @Override
+    public CompletableFuture<String> upload(String key, Path file, String contentType) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        // 업로드 URL은 기존과 같이 key 전체를 인코딩해서 반환
+        return s3AsyncClient.putObject(request, AsyncRequestBody.fromFile(file))
+                .thenApply(response -> baseUrl + URLEncoder.encode(key, StandardCharsets.UTF_8));
+    }
+
+    // 한 번에 최대 1000개씩 오므로 continuation token을 따라 끝까지 조회
+    @Override
+    public List<StoredObject> list(String prefix) {
+        List<StoredObject> objects = new ArrayList<>();
+        String continuationToken = null;
+        ListObjectsV2Response response;
+        do {
+            response = s3AsyncClient.listObjectsV2(ListObjectsV2Request.builder()
+                            .bucket(bucket)
+                            .prefix(prefix)
+                            .continuationToken(continuationToken)
+                            .build())
+                    .join();
+            for (S3Object object : response.contents()) {
+                objects.add(new StoredObject(object.key(), baseUrl + object.key(), object.eTag(), object.size()));
+            }
+            continuationToken = response.nextContinuationToken();
+        } while (Boolean.TRUE.equals(response.isTruncated()));
+        return objects;
+    }
+}
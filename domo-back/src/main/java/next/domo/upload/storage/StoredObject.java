@@ -0,0 +1,5 @@
+package next.domo.upload.storage;
+
+// 저장소에 있는 파일 하나 (eTag는 내용이 바뀌었는지 비교하는 용도)
+public record StoredObject(String key, String url, String eTag, long size) {
+}
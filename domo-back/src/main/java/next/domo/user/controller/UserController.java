@@ -7,57 +7,81 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import next.domo.file.dto.ItemResponseDto;
 import next.domo.user.dto.*;
+import next.domo.user.password.PasswordHashingRejectedException;
 import next.domo.user.service.UserService;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/user")
 public class UserController {
 
+    // 보유 아이템과 겹쳐 실패했을 때 다시 뽑는 최대 횟수
+    private static final int DRAW_ATTEMPTS = 3;
+
     private final UserService userService;
 
     @Operation(summary = "회원가입")
     @SecurityRequirement(name = "")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "회원가입 성공"),
-        @ApiResponse(responseCode = "400", description = "회원가입 실패 (아이디/이메일 중복)")
+        @ApiResponse(responseCode = "400", description = "회원가입 실패 (아이디/이메일 중복)"),
+        @ApiResponse(responseCode = "503", description = "요청이 많아 처리 불가")
     })
     @PostMapping("/signup")
-    public String signup(@RequestBody UserSignUpRequestDto requestDto, HttpServletResponse response) {
-        userService.signUp(requestDto, response);
-        return "회원가입 성공!";
+    public ResponseEntity<String> signup(@RequestBody UserSignUpRequestDto requestDto, HttpServletResponse response) {
+        try {
+            userService.signUp(requestDto, response);
+        } catch (PasswordHashingRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
+        return ResponseEntity.ok("회원가입 성공!");
     }
 
     @Operation(summary = "로그인")
     @SecurityRequirement(name = "")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "로그인 성공"),
-        @ApiResponse(responseCode = "400", description = "로그인 실패 (아이디/비밀번호 불일치)")
+        @ApiResponse(responseCode = "400", description = "로그인 실패 (아이디/비밀번호 불일치)"),
+        @ApiResponse(responseCode = "503", description = "요청이 많아 처리 불가")
     })
     @PostMapping("/login")
-    public String login(@RequestBody UserLoginRequestDto requestDto, HttpServletResponse response) {
-        userService.login(requestDto, response);
-        return "로그인 성공!";
+    public ResponseEntity<String> login(@RequestBody UserLoginRequestDto requestDto, HttpServletResponse response) {
+        try {
+            userService.login(requestDto, response);
+        } catch (PasswordHashingRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
+        return ResponseEntity.ok("로그인 성공!");
     }
 
     @Operation(summary = "비밀번호 변경")
     @SecurityRequirement(name = "accessToken")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "비밀번호 변경 성공"),
-        @ApiResponse(responseCode = "400", description = "비밀번호 변경 실패 (기존 비밀번호 불일치)")
+        @ApiResponse(responseCode = "400", description = "비밀번호 변경 실패 (기존 비밀번호 불일치)"),
+        @ApiResponse(responseCode = "503", description = "요청이 많아 처리 불가")
     })
     @PutMapping("/password")
     public ResponseEntity<String> changePassword(@RequestBody ChangePasswordRequestDto requestDto) {
-        userService.changePassword(requestDto);
+        try {
+            userService.changePassword(requestDto);
+        } catch (PasswordHashingRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
         return ResponseEntity.ok("비밀번호 변경 성공");
     }
     
@@ -108,9 +132,28 @@ public class UserController {
     })
     @PutMapping("/draw")
     @SecurityRequirement(name = "accessToken")
-    public ResponseEntity<ItemResponseDto> drawItem(HttpServletRequest request) {
+    public ResponseEntity<ItemResponseDto> drawItem(HttpServletRequest request,
+                                                    @Parameter(description = "재시도 시 같은 값을 보내면 코인을 다시 차감하지 않고 이전 결과를 반환")
+                                                    @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         Long userId = userService.getUserIdFromToken(request);
-        return ResponseEntity.ok(userService.drawItem(userId));
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return ResponseEntity.ok(userService.drawItem(userId, idempotencyKey));
+            } catch (DataIntegrityViolationException e) {
+                // 이미 보유한 아이템과 겹친 경우 (차감까지 롤백됐으므로 다시 뽑기)
+                if (UserService.isDuplicateUserItem(e)) {
+                    if (attempt < DRAW_ATTEMPTS) {
+                        continue;
+                    }
+                    throw e;
+                }
+                // 같은 키로 동시에 들어온 요청은 먼저 처리된 뽑기 결과를 반환
+                if (idempotencyKey == null) {
+                    throw e;
+                }
+                return ResponseEntity.ok(userService.findDrawnItem(userId, idempotencyKey).orElseThrow(() -> e));
+            }
+        }
     }
 
     @Operation(summary = "보유 코인 조회")
@@ -126,20 +169,20 @@ public class UserController {
         return ResponseEntity.ok(coin);
     }
 
-    @Operation(summary = "캐릭터 파일 업로드", description = "GLB 파일을 S3에 업로드하고 URL을 User 테이블에 저장합니다.")
+    @Operation(summary = "캐릭터 파일 업로드", description = "GLB 파일을 저장소에 업로드하고 URL을 User 테이블에 저장합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "캐릭터 파일 업로드 성공"),
         @ApiResponse(responseCode = "400", description = "캐릭터 파일 업로드 실패")
     })
     @PostMapping(value = "/character/upload", consumes = "multipart/form-data")
     @SecurityRequirement(name = "accessToken")
-    public ResponseEntity<String> uploadCharacterFile(
+    public CompletableFuture<ResponseEntity<String>> uploadCharacterFile(
         HttpServletRequest request,
         @RequestPart MultipartFile file
     ) {
         Long userId = userService.getUserIdFromToken(request);
-        String fileUrl = userService.uploadCharacterFile(userId, file);
-        return ResponseEntity.ok(fileUrl);
+        return userService.uploadCharacterFile(userId, file)
+                .thenApply(ResponseEntity::ok);
     }
 
     @Operation(summary = "캐릭터 파일 URL 조회", description = "로그인된 사용자의 캐릭터 GLB 파일 URL을 반환합니다.")
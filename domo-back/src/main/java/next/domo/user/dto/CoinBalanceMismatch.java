@@ -0,0 +1,5 @@
+package next.domo.user.dto;
+
+// 잔액 스냅샷(users.user_coin)과 원장 합계가 다른 사용자
+public record CoinBalanceMismatch(Long userId, int balance, long ledgerSum) {
+}
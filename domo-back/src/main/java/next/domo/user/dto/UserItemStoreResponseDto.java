@@ -3,6 +3,7 @@ package next.domo.user.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import next.domo.file.dto.ItemResponseDto;
 import next.domo.file.entity.Item;
 
 @Builder
@@ -24,4 +25,14 @@ public class UserItemStoreResponseDto {
                 .hasItem(hasItem)
                 .build();
     }
+
+    public static UserItemStoreResponseDto from(ItemResponseDto item, boolean hasItem) {
+        return UserItemStoreResponseDto.builder()
+                .id(item.getItemId())
+                .name(item.getItemName())
+                .imageUrl(item.getItemImageUrl())
+                .image2dUrl(item.getItem2dImageUrl())
+                .hasItem(hasItem)
+                .build();
+    }
 }
@@ -0,0 +1,60 @@
+package next.domo.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import next.domo.user.enums.CoinTransactionType;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+// 코인 증감 이력 (추가만 하고 수정/삭제하지 않음)
+// users.user_coin은 이 원장의 합계를 바로 읽기 위한 잔액 스냅샷이다.
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Getter
+@Entity
+@Table(name = "coin_transaction",
+        uniqueConstraints = @UniqueConstraint(name = "uk_coin_transaction_idempotency_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_coin_transaction_user_created", columnList = "user_id, created_at"))
+public class CoinTransaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long coinTransactionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    // 지급은 양수, 사용은 음수
+    @Column(nullable = false)
+    private int amount;
+
+    @Column(nullable = false)
+    private int balanceAfter;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private CoinTransactionType type;
+
+    // 같은 요청이 다시 들어와도 한 번만 반영되도록 하는 키 (예: project-reward:{projectId})
+    @Column(nullable = false, length = 100)
+    private String idempotencyKey;
+
+    // 보상 프로젝트 id 또는 뽑은 아이템 id
+    private Long referenceId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 뽑기처럼 차감 후에 대상이 정해지는 경우, 기록한 트랜잭션 안에서 한 번만 연결
+    public void linkReference(Long referenceId) {
+        if (this.referenceId != null) {
+            throw new IllegalStateException("이미 연결된 코인 이력입니다.");
+        }
+        this.referenceId = referenceId;
+    }
+}
@@ -0,0 +1,56 @@
+package next.domo.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+// 기기(로그인 세션)별 리프레시 토큰
+// 토큰 원문 대신 SHA-256 해시를 저장하고, 재발급 시 같은 familyId로 새 토큰을 이어 붙인다.
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Getter
+@Entity
+@Table(name = "refresh_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash"),
+        indexes = {
+                @Index(name = "idx_refresh_token_family", columnList = "family_id"),
+                @Index(name = "idx_refresh_token_user", columnList = "user_id"),
+                @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+        })
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long refreshTokenId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(nullable = false, length = 64)
+    private String tokenHash;
+
+    // 최초 로그인 때 만들어져 재발급 내내 유지되는 세션 id
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 새 토큰으로 교체된 시각 (null이면 현재 사용 중인 토큰)
+    private LocalDateTime rotatedAt;
+
+    private boolean revoked;
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -14,7 +14,11 @@ import java.util.List;
 @Builder
 @Getter
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_users_login_id", columnNames = "login_id"),
+                @UniqueConstraint(name = "uk_users_email", columnNames = "email")
+        })
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -24,7 +28,6 @@ public class User {
     private String password;
     private String name;
     private String email;
-    private String refreshToken;
     private int userCoin;
 
     @Enumerated(EnumType.STRING)
@@ -36,14 +39,6 @@ public class User {
     private String characterName;
     private String characterFileUrl;
 
-    public void updateRefreshToken(String newRefreshToken){
-        this.refreshToken = newRefreshToken;
-    }
-
-    public void updatePassword(String newPassword) {
-        this.password = newPassword;
-    }
-
     public void updateDetailPreference (TaskDetailPreference detailPreference) {
         this.detailPreference = detailPreference;
     }
@@ -51,21 +46,4 @@ public class User {
     public void updateWorkPace(WorkPace workPace) {
         this.workPace = workPace;
     }
-
-    public void addCoin(int coin) {
-        this.userCoin += coin;
-    }
-    
-    public void useCoin(int amount) {
-        if (this.userCoin < amount) {
-            int shortage = amount - this.userCoin;
-            throw new IllegalArgumentException("보유 코인이 부족하여 뽑기를 진행할 수 없습니다. 현재 보유 코인: " 
-                + this.userCoin + ", 부족한 코인: " + shortage);
-        }
-        this.userCoin -= amount;
-    }
-
-    public void setCharacterFileUrl(String url) {
-        this.characterFileUrl = url;
-    }
 }
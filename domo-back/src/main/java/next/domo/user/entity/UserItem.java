@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 @Builder
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_item_user_item", columnNames = {"user_id", "item_id"}))
 public class UserItem {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
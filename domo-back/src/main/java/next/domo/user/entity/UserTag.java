@@ -7,6 +7,7 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_tag_user_tag", columnNames = {"user_id", "sub_task_tag"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,4 +30,49 @@ public class UserTag {
 
     @Column(nullable = false)
     private float actualToExpectedRate;
+
+    // 소요율 누적 집계 (null이면 집계 도입 전 데이터라 재계산 필요)
+    private Integer sampleCount;
+
+    private Double rateSum;
+
+    // 최근 기록에 가중치를 더 준 지수 이동 평균
+    private Float decayedRate;
+
+    public boolean hasAggregates() {
+        return sampleCount != null && rateSum != null;
+    }
+
+    public void resetAggregates(int sampleCount, double rateSum) {
+        this.sampleCount = sampleCount;
+        this.rateSum = rateSum;
+        if (sampleCount > 0) {
+            this.actualToExpectedRate = (float) (rateSum / sampleCount);
+            this.decayedRate = this.actualToExpectedRate;
+        }
+    }
+
+    // 하위작업 하나의 이전 소요율을 빼고 새 소요율을 더함 (null이면 표본 아님)
+    public void applySample(Double oldRate, Double newRate, double decayAlpha) {
+        if (oldRate != null) {
+            sampleCount--;
+            rateSum -= oldRate;
+        }
+        if (newRate != null) {
+            sampleCount++;
+            rateSum += newRate;
+            // 새 기록이 생긴 경우에만 이동 평균 갱신
+            if (oldRate == null) {
+                float previous = decayedRate == null ? newRate.floatValue() : decayedRate;
+                decayedRate = (float) (decayAlpha * newRate + (1 - decayAlpha) * previous);
+            }
+        }
+        // 표본이 모두 사라지면 마지막 소요율 유지
+        if (sampleCount > 0) {
+            actualToExpectedRate = (float) (rateSum / sampleCount);
+        } else {
+            sampleCount = 0;
+            rateSum = 0.0;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package next.domo.user.enums;
+
+public enum CoinTransactionType {
+    OPENING_BALANCE,  // 원장 도입 전 보유 코인 이관
+    PROJECT_REWARD,   // 프로젝트 완료 보상
+    ITEM_DRAW         // 아이템 뽑기 비용
+}
@@ -0,0 +1,53 @@
+package next.domo.user.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// 서버 성능에 맞춰 BCrypt cost를 정하기 위한 측정기
+// cost가 1 오를 때마다 해시 시간이 두 배가 되므로 최소 cost부터 올려가며 목표 시간을 넘지 않는 가장 큰 값을 찾는다.
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int SAMPLES = 3;
+
+    public record Result(int strength, double millisPerHash) {
+
+        // 스레드 하나(코어 하나)가 1초에 처리할 수 있는 해시 수
+        public double hashesPerSecondPerCore() {
+            return millisPerHash <= 0 ? 0 : 1000.0 / millisPerHash;
+        }
+    }
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static Result calibrate(long targetMillis, int minStrength, int maxStrength) {
+        // JIT 예열
+        new BCryptPasswordEncoder(4).encode(SAMPLE_PASSWORD);
+
+        Result selected = new Result(minStrength, measure(minStrength));
+        for (int strength = minStrength + 1; strength <= maxStrength; strength++) {
+            // 다음 cost는 대략 두 배가 걸리므로 목표를 넘을 게 확실하면 측정하지 않음
+            if (selected.millisPerHash() * 2 > targetMillis) {
+                break;
+            }
+            double millis = measure(strength);
+            if (millis > targetMillis) {
+                break;
+            }
+            selected = new Result(strength, millis);
+        }
+        return selected;
+    }
+
+    // 지정한 cost로 해시 한 번에 걸리는 평균 시간(ms)
+    public static double measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        for (int i = 0; i < SAMPLES; i++) {
+            encoder.encode(SAMPLE_PASSWORD);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / SAMPLES;
+    }
+}
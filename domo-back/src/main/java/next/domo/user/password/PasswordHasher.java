@@ -0,0 +1,77 @@
+package next.domo.user.password;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 비밀번호 해시/검증을 전용 스레드 풀에서 실행
+// 로그인이 몰려도 해시 계산은 풀 크기만큼만 CPU를 쓰고, 큐가 가득 차면 바로 거절해서 다른 API 요청이 밀리지 않도록 한다.
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+    private final long timeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+                          MeterRegistry meterRegistry,
+                          @Value("${password.hash.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.timeoutMillis = timeoutMillis;
+        this.encodeTimer = Timer.builder("password.hash").tag("operation", "encode").register(meterRegistry);
+        this.matchTimer = Timer.builder("password.hash").tag("operation", "matches").register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> matchTimer.recordCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // 저장된 해시의 cost가 현재 설정보다 낮은지 확인 (해시 계산 없음)
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = passwordHashExecutor.submit(task);
+        } catch (TaskRejectedException e) {
+            throw new PasswordHashingRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리에 실패했습니다.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package next.domo.user.password;
+
+// 비밀번호 해시 작업 큐가 가득 찼거나 제한 시간 안에 처리되지 못한 경우 (503)
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
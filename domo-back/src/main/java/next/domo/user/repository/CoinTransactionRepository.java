@@ -0,0 +1,22 @@
+package next.domo.user.repository;
+
+import next.domo.user.dto.CoinBalanceMismatch;
+import next.domo.user.entity.CoinTransaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CoinTransactionRepository extends JpaRepository<CoinTransaction, Long> {
+
+    Optional<CoinTransaction> findByIdempotencyKey(String idempotencyKey);
+
+    @Query("SELECT new next.domo.user.dto.CoinBalanceMismatch(u.userId, u.userCoin, COALESCE(SUM(t.amount), 0L)) " +
+            "FROM User u LEFT JOIN CoinTransaction t ON t.user = u " +
+            "GROUP BY u.userId, u.userCoin " +
+            "HAVING u.userCoin <> COALESCE(SUM(t.amount), 0L)")
+    List<CoinBalanceMismatch> findBalanceMismatches();
+}
@@ -0,0 +1,38 @@
+package next.domo.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+// 비밀번호 확인용 조회/저장을 JDBC로 처리
+// 요청 단위 EntityManager(open-in-view)를 거치지 않아서 조회가 끝나면 커넥션을 바로 반납하고,
+// 해시 계산을 기다리는 동안 DB 커넥션을 잡고 있지 않는다.
+@Repository
+@RequiredArgsConstructor
+public class UserCredentialRepository {
+
+    public record UserCredential(Long userId, String loginId, String passwordHash) {
+    }
+
+    private static final RowMapper<UserCredential> ROW_MAPPER = (rs, rowNum) ->
+            new UserCredential(rs.getLong("user_id"), rs.getString("login_id"), rs.getString("password"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<UserCredential> findByLoginId(String loginId) {
+        return jdbcTemplate.query("SELECT user_id, login_id, password FROM users WHERE login_id = ?", ROW_MAPPER, loginId)
+                .stream().findFirst();
+    }
+
+    public Optional<UserCredential> findByUserId(Long userId) {
+        return jdbcTemplate.query("SELECT user_id, login_id, password FROM users WHERE user_id = ?", ROW_MAPPER, userId)
+                .stream().findFirst();
+    }
+
+    public int updatePasswordHash(Long userId, String passwordHash) {
+        return jdbcTemplate.update("UPDATE users SET password = ? WHERE user_id = ?", passwordHash, userId);
+    }
+}
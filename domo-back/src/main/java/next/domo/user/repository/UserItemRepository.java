@@ -13,6 +13,10 @@ public interface UserItemRepository extends JpaRepository<UserItem, Long> {
     @Query("SELECT ui.item.itemId FROM UserItem ui WHERE ui.user.userId = :userId")
     List<Long> findItemIdsByUserId(@Param("userId") Long userId);
 
+    // 잠금 읽기라서 트랜잭션 스냅샷이 아닌 최신 커밋 기준으로 조회 (뽑기에서 user 행 잠금을 잡은 뒤 사용)
+    @Query(value = "SELECT item_id FROM user_item WHERE user_id = :userId FOR SHARE", nativeQuery = true)
+    List<Long> findItemIdsByUserIdForShare(@Param("userId") Long userId);
+
     Optional<UserItem> findTopByUserOrderByEquippedAtDesc(User user);
 
     List<UserItem> findAllByUser(User user);
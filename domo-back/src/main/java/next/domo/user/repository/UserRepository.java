@@ -1,7 +1,11 @@
 package next.domo.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import next.domo.user.entity.User;
 
@@ -13,5 +17,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserId(Long userId);
     Optional<User> findByLoginId(String loginId);
     Optional<User> findByEmail(String email);
-    Optional<User> findByRefreshToken(String refreshToken);
+
+    @Query("SELECT u.userCoin FROM User u WHERE u.userId = :userId")
+    Optional<Integer> findCoinByUserId(@Param("userId") Long userId);
+
+    // 잔액이 충분할 때만 차감 (동시에 요청해도 이중 차감 없음, 차감된 행 수 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.userCoin = u.userCoin - :amount WHERE u.userId = :userId AND u.userCoin >= :amount")
+    int spendCoin(@Param("userId") Long userId, @Param("amount") int amount);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.userCoin = u.userCoin + :amount WHERE u.userId = :userId")
+    int addCoin(@Param("userId") Long userId, @Param("amount") int amount);
+
+    // 비동기 업로드 완료 후 호출되므로 자체 트랜잭션으로 갱신
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.characterFileUrl = :url WHERE u.userId = :userId")
+    int updateCharacterFileUrl(@Param("userId") Long userId, @Param("url") String url);
 }
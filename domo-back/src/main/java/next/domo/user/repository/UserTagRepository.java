@@ -1,6 +1,11 @@
 package next.domo.user.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import next.domo.subtask.entity.SubTaskTag;
@@ -14,4 +19,25 @@ import java.util.Optional;
 public interface UserTagRepository extends JpaRepository<UserTag, Long> {
     List<UserTag> findByUserUserId(Long userId);
     Optional<UserTag> findByUserAndSubTaskTag(User user, SubTaskTag subTaskTag);
+
+    // 동시에 같은 태그 집계를 갱신해도 누락되지 않도록 행 잠금 후 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM UserTag t WHERE t.user.userId = :userId AND t.subTaskTag = :subTaskTag")
+    Optional<UserTag> findForUpdate(@Param("userId") Long userId, @Param("subTaskTag") SubTaskTag subTaskTag);
+
+    // 잠금 없는 존재 확인 (없는 행을 잠금 조회하면 갭 잠금끼리 교착될 수 있어서 먼저 확인)
+    boolean existsByUserUserIdAndSubTaskTag(Long userId, SubTaskTag subTaskTag);
+
+    // 없을 때만 빈 집계 행 생성 (동시에 처음 기록돼도 유니크 키 때문에 한 행만 생기고 나머지는 대기 후 통과)
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_tag (user_id, sub_task_tag, actual_to_expected_rate, sample_count, rate_sum)
+            VALUES (:userId, :subTaskTag, :rate, 0, 0)
+            ON DUPLICATE KEY UPDATE user_tag_id = user_tag_id
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId, @Param("subTaskTag") String subTaskTag, @Param("rate") float rate);
+
+    // 집계 도입 전 데이터가 남은 사용자
+    @Query("SELECT DISTINCT t.user.userId FROM UserTag t WHERE t.sampleCount IS NULL OR t.rateSum IS NULL")
+    List<Long> findUserIdsWithoutAggregates();
 }
@@ -0,0 +1,96 @@
+package next.domo.user.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import next.domo.user.dto.CoinBalanceMismatch;
+import next.domo.user.entity.CoinTransaction;
+import next.domo.user.enums.CoinTransactionType;
+import next.domo.user.repository.CoinTransactionRepository;
+import next.domo.user.repository.UserRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 코인 잔액 변경은 모두 여기서 처리
+// 잔액은 조건부 UPDATE로 원자적으로 바꾸고, 같은 트랜잭션에서 원장에 이력을 남긴다.
+@Slf4j
+@Service
+@Transactional
+public class CoinLedgerService {
+
+    private final UserRepository userRepository;
+    private final CoinTransactionRepository coinTransactionRepository;
+    private final AtomicInteger mismatchCount = new AtomicInteger();
+
+    public CoinLedgerService(UserRepository userRepository,
+                             CoinTransactionRepository coinTransactionRepository,
+                             MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.coinTransactionRepository = coinTransactionRepository;
+        meterRegistry.gauge("coin.ledger.mismatches", mismatchCount);
+    }
+
+    // 이미 처리된 키면 기존 이력을 그대로 반환
+    public Optional<CoinTransaction> findByIdempotencyKey(String idempotencyKey) {
+        return coinTransactionRepository.findByIdempotencyKey(idempotencyKey);
+    }
+
+    public CoinTransaction credit(Long userId, int amount, CoinTransactionType type, Long referenceId, String idempotencyKey) {
+        Optional<CoinTransaction> existing = coinTransactionRepository.findByIdempotencyKey(idempotencyKey);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        if (userRepository.addCoin(userId, amount) == 0) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        return record(userId, amount, type, referenceId, idempotencyKey);
+    }
+
+    // 잔액이 부족하면 아무것도 바꾸지 않고 empty 반환
+    public Optional<CoinTransaction> debit(Long userId, int amount, CoinTransactionType type, Long referenceId, String idempotencyKey) {
+        if (userRepository.spendCoin(userId, amount) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(record(userId, -amount, type, referenceId, idempotencyKey));
+    }
+
+    // 보유 코인은 스냅샷 컬럼 하나만 읽음 (엔티티 로딩/잠금 없음)
+    @Transactional(readOnly = true)
+    public int getBalance(Long userId) {
+        return userRepository.findCoinByUserId(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    }
+
+    // 잔액 스냅샷과 원장 합계가 어긋난 사용자 점검 (수정은 하지 않고 기록만)
+    @Scheduled(fixedDelayString = "${coin.reconcile.interval-ms:3600000}", initialDelayString = "${coin.reconcile.initial-delay-ms:600000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        List<CoinBalanceMismatch> mismatches = coinTransactionRepository.findBalanceMismatches();
+        mismatchCount.set(mismatches.size());
+        for (CoinBalanceMismatch mismatch : mismatches) {
+            log.warn("코인 잔액 불일치 userId={}, balance={}, ledgerSum={}",
+                    mismatch.userId(), mismatch.balance(), mismatch.ledgerSum());
+        }
+    }
+
+    private CoinTransaction record(Long userId, int amount, CoinTransactionType type, Long referenceId, String idempotencyKey) {
+        // UPDATE로 잠근 행이라 이 트랜잭션이 끝날 때까지 다른 변경이 끼어들지 않음
+        int balanceAfter = userRepository.findCoinByUserId(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        return coinTransactionRepository.save(CoinTransaction.builder()
+                .user(userRepository.getReferenceById(userId))
+                .amount(amount)
+                .balanceAfter(balanceAfter)
+                .type(type)
+                .referenceId(referenceId)
+                .idempotencyKey(idempotencyKey)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import next.domo.file.dto.ItemResponseDto;
 import next.domo.file.entity.Item;
 import next.domo.file.repository.ItemRepository;
+import next.domo.file.service.ItemCatalog;
 import next.domo.user.dto.UserItemStoreResponseDto;
 import next.domo.user.entity.User;
 import next.domo.user.entity.UserItem;
@@ -13,6 +14,8 @@ import next.domo.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -21,6 +24,7 @@ public class UserItemService {
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
     private final UserItemRepository userItemRepository;
+    private final ItemCatalog itemCatalog;
 
     @Transactional
     public void addItemToUser(Long userId, Long itemId) {
@@ -39,13 +43,17 @@ public class UserItemService {
         userItemRepository.save(userItem);
     }
 
+    // 카탈로그는 메모리 스냅샷을 쓰고, DB는 보유 아이템 id만 조회
     public List<UserItemStoreResponseDto> getStoreItemsByUser(Long userId) {
-        List<Item> allItems = itemRepository.findAll();
-        List<Long> ownedItemIds = userItemRepository.findItemIdsByUserId(userId);
+        ItemCatalog.Snapshot catalog = itemCatalog.current();
+        BitSet owned = catalog.toOwnedBits(userItemRepository.findItemIdsByUserId(userId));
 
-        return allItems.stream()
-                .map(item -> UserItemStoreResponseDto.from(item, ownedItemIds.contains(item.getItemId())))
-                .toList();
+        List<ItemResponseDto> items = catalog.items();
+        List<UserItemStoreResponseDto> storeItems = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            storeItems.add(UserItemStoreResponseDto.from(items.get(i), owned.get(i)));
+        }
+        return storeItems;
     }
 
     public ItemResponseDto getLatestEquippedItem(Long userId) {
@@ -1,115 +1,147 @@
 package next.domo.user.service;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import next.domo.file.dto.ItemResponseDto;
-import next.domo.file.entity.Item;
 import next.domo.file.repository.ItemRepository;
+import next.domo.file.service.ItemCatalog;
+import next.domo.jwt.AuthUser;
+import next.domo.jwt.JwtAuthenticationFilter;
 import next.domo.jwt.JwtProvider;
+import next.domo.jwt.RefreshTokenService;
+import next.domo.jwt.UserExistenceCache;
 import next.domo.project.entity.ProjectTag;
 import next.domo.project.repository.ProjectTagRepository;
 import next.domo.user.dto.*;
+import next.domo.user.entity.CoinTransaction;
 import next.domo.user.entity.User;
 import next.domo.user.entity.UserItem;
+import next.domo.user.enums.CoinTransactionType;
 import next.domo.user.enums.OnboardingTagType;
 import next.domo.user.enums.TaskDetailPreference;
 import next.domo.user.enums.WorkPace;
+import next.domo.user.password.PasswordHasher;
+import next.domo.user.repository.UserCredentialRepository;
 import next.domo.user.repository.UserItemRepository;
 import next.domo.user.repository.UserRepository;
-import next.domo.upload.service.S3Service;
+import next.domo.upload.service.FileUploadService;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.time.LocalDateTime;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
-import java.util.stream.Collectors;
-import java.util.stream.LongStream;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserService {
 
+    private static final int DRAW_COST = 50;
+
     private final UserRepository userRepository;
+    private final UserCredentialRepository userCredentialRepository;
     private final ProjectTagRepository projectTagRepository;
     private final JwtProvider jwtProvider;
-    private final PasswordEncoder passwordEncoder;
-    private final S3Service s3Service;
+    private final PasswordHasher passwordHasher;
+    private final FileUploadService fileUploadService;
     private final ItemRepository itemRepository;
     private final UserItemRepository userItemRepository;
+    private final UserExistenceCache userExistenceCache;
+    private final ItemCatalog itemCatalog;
+    private final CoinLedgerService coinLedgerService;
+    private final RefreshTokenService refreshTokenService;
 
     public Long getUserIdFromToken(HttpServletRequest request) {
+        // 필터에서 이미 검증한 토큰이면 서명 재검증 없이 claim 사용
+        if (request.getAttribute(JwtAuthenticationFilter.VERIFIED_ACCESS_TOKEN_ATTRIBUTE) instanceof DecodedJWT decodedAccessToken) {
+            return jwtProvider.extractUserId(decodedAccessToken).orElseThrow(() -> new RuntimeException("토큰에서 유저 아이디를 찾을 수 없습니다."));
+        }
         String accessToken = request.getHeader("Authorization").substring(7); // "Bearer "를 제외한 토큰
         return jwtProvider.extractUserId(accessToken).orElseThrow(() -> new RuntimeException("토큰에서 유저 아이디를 찾을 수 없습니다."));
     }
 
+    // 비밀번호 해시 계산은 트랜잭션 밖에서 먼저 하고, 저장은 짧은 트랜잭션으로 처리
+    // (해시 스레드 풀을 기다리는 동안 DB 커넥션을 잡고 있지 않도록)
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public void signUp(UserSignUpRequestDto requestDto, HttpServletResponse response) {
-        // 아이디 중복 체크
-        if (userRepository.findByLoginId(requestDto.getLoginId()).isPresent()) {
-            throw new RuntimeException("이미 존재하는 아이디입니다.");
-        }
-
-        // 이메일 중복 체크
-        if (userRepository.findByEmail(requestDto.getEmail()).isPresent()) {
-            throw new RuntimeException("이미 존재하는 이메일입니다.");
-        }
-
-        // 저장
+        // 저장 (아이디/이메일 중복은 유니크 제약으로 확인)
         User user = User.builder()
                 .loginId(requestDto.getLoginId())
-                .password(passwordEncoder.encode(requestDto.getPassword())) // 비밀번호 암호화
+                .password(passwordHasher.encode(requestDto.getPassword())) // 비밀번호 암호화
                 .name(requestDto.getName())
                 .email(requestDto.getEmail())
                 .build();
 
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException(duplicateSignUpMessage(e));
+        }
 
         // 가입하자마자 로그인 토큰 발급
-        String accessToken = jwtProvider.createAccessToken(user.getEmail(), user.getUserId());
-        String refreshToken = jwtProvider.createRefreshToken();
+        String accessToken = jwtProvider.createAccessToken(user.getLoginId(), user.getUserId());
+        String refreshToken = refreshTokenService.issue(user);
         jwtProvider.sendAccessAndRefreshToken(response, accessToken, refreshToken);
+    }
 
-        user.updateRefreshToken(refreshToken);
-        userRepository.save(user);
+    // 위반된 제약 이름으로 어떤 값이 중복됐는지 구분
+    private String duplicateSignUpMessage(DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase();
+        if (message.contains("uk_users_login_id")) {
+            return "이미 존재하는 아이디입니다.";
+        }
+        if (message.contains("uk_users_email")) {
+            return "이미 존재하는 이메일입니다.";
+        }
+        return "회원가입에 실패했습니다.";
     }
 
+    // 조회 -> 트랜잭션 밖에서 비밀번호 확인 -> 필요한 경우만 짧게 저장
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public void login(UserLoginRequestDto requestDto, HttpServletResponse response) {
-        User user = userRepository.findByLoginId(requestDto.getLoginId())
+        UserCredentialRepository.UserCredential credential = userCredentialRepository.findByLoginId(requestDto.getLoginId())
                 .orElseThrow(() -> new RuntimeException("아이디 또는 비밀번호가 일치하지 않습니다."));
 
-        if (!passwordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(requestDto.getPassword(), credential.passwordHash())) {
             throw new RuntimeException("아이디 또는 비밀번호가 일치하지 않습니다.");
         }
 
-        String accessToken = jwtProvider.createAccessToken(user.getEmail(), user.getUserId());
-        String refreshToken = jwtProvider.createRefreshToken();
-        jwtProvider.sendAccessAndRefreshToken(response, accessToken, refreshToken);
+        // 설정된 cost보다 낮은 해시는 로그인 성공 시 새 cost로 다시 저장
+        if (passwordHasher.needsRehash(credential.passwordHash())) {
+            userCredentialRepository.updatePasswordHash(credential.userId(), passwordHasher.encode(requestDto.getPassword()));
+        }
 
-        user.updateRefreshToken(refreshToken);
-        userRepository.save(user);
+        String accessToken = jwtProvider.createAccessToken(credential.loginId(), credential.userId());
+        String refreshToken = refreshTokenService.issue(userRepository.getReferenceById(credential.userId()));
+        jwtProvider.sendAccessAndRefreshToken(response, accessToken, refreshToken);
     }
 
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public void changePassword(ChangePasswordRequestDto requestDto) {
         Long userId = getCurrentUserId();
-    
-        User user = userRepository.findByUserId(userId)
+
+        UserCredentialRepository.UserCredential credential = userCredentialRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("해당 사용자를 찾을 수 없습니다."));
-    
-        if (!passwordEncoder.matches(requestDto.getOldPassword(), user.getPassword())) {
+
+        if (!passwordHasher.matches(requestDto.getOldPassword(), credential.passwordHash())) {
             throw new RuntimeException("기존 비밀번호가 일치하지 않습니다.");
         }
-    
-        user.updatePassword(passwordEncoder.encode(requestDto.getNewPassword()));
-        userRepository.save(user);
+
+        userCredentialRepository.updatePasswordHash(userId, passwordHasher.encode(requestDto.getNewPassword()));
+        // 다른 기기의 로그인 세션은 모두 종료
+        refreshTokenService.revokeAll(userId);
     }
 
     public UserInfoDto showUserInfo(Long userId) {
@@ -134,14 +166,16 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("해당 사용자를 찾을 수 없습니다."));
     
         userRepository.delete(user);
+        userExistenceCache.evict(userId);
     }
 
     public Long getCurrentUserId() {
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        String loginId = userDetails.getUsername();
-        User user = userRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new RuntimeException("로그인 정보를 찾을 수 없습니다."));
-        return user.getUserId();
+        // 필터에서 토큰 claim으로 만든 인증 주체에서 바로 userId 사용 (DB 조회 없음)
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof AuthUser authUser) {
+            return authUser.getUserId();
+        }
+        throw new RuntimeException("로그인 정보를 찾을 수 없습니다.");
     }
 
     @Transactional
@@ -169,51 +203,68 @@ public class UserService {
         userRepository.save(user);
     }
 
+    // 같은 키로 동시에 요청한 경우 늦은 요청은 원장 유니크 제약 위반(DataIntegrityViolationException)으로 롤백되고,
+    // 호출하는 쪽에서 findDrawnItem으로 먼저 처리된 결과를 다시 읽는다.
+    // 보유 아이템이 겹쳐 실패한 경우(isDuplicateUserItem)는 차감도 롤백되므로 다시 뽑으면 된다.
     @Transactional
-    public ItemResponseDto drawItem(Long userId) {
-        User user = userRepository.findById(userId)
-        .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        if (user.getUserCoin() < 50) {
-            throw new IllegalArgumentException("코인이 부족하여 뽑기를 진행할 수 없습니다.");
+    public ItemResponseDto drawItem(Long userId, String idempotencyKey) {
+        // 키가 없으면 매번 새 뽑기
+        String drawKey = drawIdempotencyKey(userId, idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString());
+
+        // 같은 키로 다시 요청하면 이미 뽑은 아이템을 그대로 반환
+        if (idempotencyKey != null) {
+            Optional<ItemResponseDto> drawn = findDrawnItem(userId, idempotencyKey);
+            if (drawn.isPresent()) {
+                return drawn.get();
+            }
         }
 
-        user.useCoin(50);
-
-        List<Long> ownedItemIds = userItemRepository.findAllByUser(user).stream()
-                .map(userItem -> userItem.getItem().getItemId())
-                .collect(Collectors.toList());
-
-        List<Long> candidateIds = LongStream.rangeClosed(1, 12)
-                .filter(id -> id != 9 && !ownedItemIds.contains(id)) // 9와 중복 제거
-                .boxed()
-                .collect(Collectors.toList());
-
-        if (candidateIds.isEmpty()) {
+        // 코인 차감을 먼저 해서 같은 사용자의 뽑기는 트랜잭션 끝까지 user 행 잠금으로 순서대로 처리
+        CoinTransaction payment = coinLedgerService.debit(userId, DRAW_COST, CoinTransactionType.ITEM_DRAW, null, drawKey)
+                .orElseThrow(() -> userRepository.existsById(userId)
+                        ? new IllegalArgumentException("코인이 부족하여 뽑기를 진행할 수 없습니다.")
+                        : new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        // 이미 보유한 아이템은 제외하고 가중치에 따라 선택 (후보가 없으면 예외로 차감도 롤백)
+        ItemCatalog.Snapshot catalog = itemCatalog.current();
+        // 먼저 읽은 키 조회로 스냅샷이 잡혀 있으므로, 직전에 커밋된 다른 뽑기 결과까지 보려면 잠금 읽기가 필요
+        BitSet owned = catalog.toOwnedBits(userItemRepository.findItemIdsByUserIdForShare(userId));
+        int index = catalog.drawTable().draw(ThreadLocalRandom.current(), owned);
+        if (index < 0) {
             throw new IllegalStateException("더 이상 뽑을 수 있는 새로운 아이템이 없습니다.");
         }
-
-        long randomItemId = candidateIds.get(new Random().nextInt(candidateIds.size()));
-
-        Item selectedItem = itemRepository.findById(randomItemId)
-                .orElseThrow(() -> new IllegalStateException("랜덤 아이템이 존재하지 않습니다."));
+        ItemResponseDto selectedItem = catalog.items().get(index);
+        payment.linkReference(selectedItem.getItemId());
 
         UserItem userItem = UserItem.builder()
-                .user(user)
-                .item(selectedItem)
+                .user(userRepository.getReferenceById(userId))
+                .item(itemRepository.getReferenceById(selectedItem.getItemId()))
                 .equippedAt(LocalDateTime.now()) // 필요 시
                 .build();
         userItemRepository.save(userItem);
-        userRepository.save(user);
 
-        return ItemResponseDto.from(selectedItem);
+        return selectedItem;
     }
 
+    // 이 키로 이미 뽑은 아이템 (아직 없으면 empty)
     @Transactional
+    public Optional<ItemResponseDto> findDrawnItem(Long userId, String idempotencyKey) {
+        return coinLedgerService.findByIdempotencyKey(drawIdempotencyKey(userId, idempotencyKey))
+                .map(drawn -> itemCatalog.current().findById(drawn.getReferenceId())
+                        .orElseThrow(() -> new IllegalStateException("뽑은 아이템을 찾을 수 없습니다.")));
+    }
+
+    // 이미 보유한 아이템을 다시 뽑아 user_item 유니크 제약에 걸린 경우
+    public static boolean isDuplicateUserItem(DataIntegrityViolationException e) {
+        return String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase().contains("uk_user_item_user_item");
+    }
+
+    private String drawIdempotencyKey(Long userId, String idempotencyKey) {
+        return "item-draw:" + userId + ":" + idempotencyKey;
+    }
+
     public int getUserCoin(Long userId) {
-        User user = userRepository.findById(userId)
-        .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        return user.getUserCoin();
+        return coinLedgerService.getBalance(userId);
     }
 
     public User getUserById(Long userId) {
@@ -221,16 +272,17 @@ public class UserService {
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
     }
 
-    @Transactional
-    public String uploadCharacterFile(Long userId, MultipartFile file) {
-        User user = userRepository.findById(userId)
-        .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        String fileUrl = s3Service.uploadFile(file, "character"); // 폴더 지정
-        user.setCharacterFileUrl(fileUrl);
-        userRepository.save(user);
-        
-        return fileUrl;
+    // 업로드가 끝난 뒤 URL만 갱신 (업로드 동안 트랜잭션/DB 연결을 잡고 있지 않음)
+    public CompletableFuture<String> uploadCharacterFile(Long userId, MultipartFile file) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+
+        return fileUploadService.uploadFile(file, "character") // 폴더 지정
+                .thenApply(fileUrl -> {
+                    userRepository.updateCharacterFileUrl(userId, fileUrl);
+                    return fileUrl;
+                });
     }
 
     public String getCharacterFileUrl(Long userId) {
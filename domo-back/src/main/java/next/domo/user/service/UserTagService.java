@@ -1,19 +1,22 @@
 package next.domo.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import next.domo.subtask.entity.SubTask;
+import next.domo.subtask.dto.TagRateAggregate;
 import next.domo.subtask.entity.SubTaskTag;
 import next.domo.subtask.repository.SubTaskRepository;
 import next.domo.user.entity.User;
 import next.domo.user.entity.UserTag;
+import next.domo.user.repository.UserRepository;
 import next.domo.user.repository.UserTagRepository;
 
 @Service
@@ -23,51 +26,87 @@ public class UserTagService {
 
     private final UserTagRepository userTagRepository;
     private final SubTaskRepository subTaskRepository;
+    private final UserRepository userRepository;
 
-    public void updateUserTagRates(User user) {
-        List<SubTask> subTasks = subTaskRepository.findAllByUserId(user.getUserId());
+    @Value("${user-tag.decay-alpha:0.3}")
+    private double decayAlpha;
 
-        if (subTasks.isEmpty()) {
+    // 전체 기록 기준으로 태그별 소요율 재계산 (수동 갱신 및 집계 도입 전 데이터 이관용)
+    public void updateUserTagRates(User user) {
+        if (!recalculateUserTagRates(user.getUserId())) {
             throw new IllegalStateException("사용자가 생성한 하위작업이 존재하지 않습니다.");
         }
+    }
 
-        // SubTaskTag별 그룹핑
-        Map<SubTaskTag, List<SubTask>> tagToTasks = subTasks.stream()
-                .filter(st -> st.getSubTaskExpectedTime() != null && st.getSubTaskActualTime() != null)
-                .collect(Collectors.groupingBy(SubTask::getSubTaskTag));
-
-        for (SubTaskTag tag : SubTaskTag.values()) {
-            List<SubTask> tasksForTag = tagToTasks.get(tag);
+    // 집계할 기록이 하나라도 있었는지 반환
+    public boolean recalculateUserTagRates(Long userId) {
+        // SubTaskTag별 표본 수와 합계를 DB에서 집계
+        Map<SubTaskTag, TagRateAggregate> aggregates = subTaskRepository.aggregateTagRatesByUserId(userId).stream()
+                .collect(Collectors.toMap(TagRateAggregate::getSubTaskTag, Function.identity()));
 
-            // 이 태그의 기록이 아예 없다면 생략
-            if (tasksForTag == null || tasksForTag.isEmpty()) {
-                continue; // 기록 없는 태그는 저장하지 않음
-            }
+        Map<SubTaskTag, UserTag> existingTags = userTagRepository.findByUserUserId(userId).stream()
+                .collect(Collectors.toMap(UserTag::getSubTaskTag, Function.identity()));
 
-            float averageRate = (float) tasksForTag.stream()
-            .mapToDouble(st -> {
-                int expected = st.getSubTaskExpectedTime();
-                int actual = st.getSubTaskActualTime();
-                return expected <= 0 ? 1.0 : (double) actual / expected;
-            })
-            .average()
-            .orElse(1.0);
+        for (SubTaskTag tag : SubTaskTag.values()) {
+            TagRateAggregate aggregate = aggregates.get(tag);
+            int sampleCount = aggregate == null ? 0 : aggregate.getSampleCount().intValue();
+            double rateSum = aggregate == null || aggregate.getRateSum() == null ? 0.0 : aggregate.getRateSum();
 
             // 이미 존재하면 업데이트, 아니면 생성
-            Optional<UserTag> existing = userTagRepository.findByUserAndSubTaskTag(user, tag);
-
-            if (existing.isPresent()) {
-                UserTag userTag = existing.get();
-                userTag.setActualToExpectedRate(averageRate);
-            } else {
+            UserTag userTag = existingTags.get(tag);
+            if (userTag != null) {
+                userTag.resetAggregates(sampleCount, rateSum);
+            } else if (sampleCount > 0) {
+                // 기록 없는 태그는 저장하지 않음
                 UserTag newUserTag = UserTag.builder()
-                        .user(user)
+                        .user(userRepository.getReferenceById(userId))
                         .subTaskTag(tag)
-                        .actualToExpectedRate(averageRate)
+                        .actualToExpectedRate((float) (rateSum / sampleCount))
                         .build();
+                newUserTag.resetAggregates(sampleCount, rateSum);
                 userTagRepository.save(newUserTag);
             }
         }
+        return !aggregates.isEmpty();
     }
-}
 
+    // 하위작업 하나의 예상/실제 시간 변경을 태그 집계에 반영 (삭제는 new 값을 null로 전달)
+    public void applySubTaskTimeChange(Long userId, SubTaskTag tag,
+                                       Integer oldExpectedTime, Integer oldActualTime,
+                                       Integer newExpectedTime, Integer newActualTime) {
+        Double oldRate = rateOf(oldExpectedTime, oldActualTime);
+        Double newRate = rateOf(newExpectedTime, newActualTime);
+        if (tag == null || Objects.equals(oldRate, newRate)) {
+            return;
+        }
+
+        if (!userTagRepository.existsByUserUserIdAndSubTaskTag(userId, tag)) {
+            if (newRate == null) {
+                return;
+            }
+            // 처음 기록되는 태그는 빈 집계 행을 만든 뒤 아래에서 이번 표본만 반영
+            userTagRepository.insertIfAbsent(userId, tag.name(), newRate.floatValue());
+            oldRate = null;
+        }
+
+        UserTag userTag = userTagRepository.findForUpdate(userId, tag)
+                .orElseThrow(() -> new IllegalStateException("태그 집계를 찾을 수 없습니다."));
+        if (!userTag.hasAggregates()) {
+            // 집계 도입 전 데이터면 이번 변경까지 포함해서 다시 집계
+            recalculateUserTagRates(userId);
+            return;
+        }
+        userTag.applySample(oldRate, newRate, decayAlpha);
+    }
+
+    private Double rateOf(Integer expectedTime, Integer actualTime) {
+        if (expectedTime == null || actualTime == null) {
+            return null;
+        }
+        return expectedTime <= 0 ? 1.0 : (double) actualTime / expectedTime;
+    }
+
+    public List<Long> findUserIdsWithoutAggregates() {
+        return userTagRepository.findUserIdsWithoutAggregates();
+    }
+}
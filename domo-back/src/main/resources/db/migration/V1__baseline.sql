@@ -0,0 +1,84 @@
+-- 엔티티 기준 초기 스키마
+-- 기존 운영 DB는 baseline-on-migrate로 이 버전을 건너뛰고 V1.1부터 적용된다. (이후 추가된 컬럼은 V1.1 이후에서 추가)
+
+CREATE TABLE users (
+    user_id            BIGINT       NOT NULL AUTO_INCREMENT,
+    login_id           VARCHAR(255),
+    password           VARCHAR(255),
+    name               VARCHAR(255),
+    email              VARCHAR(255),
+    refresh_token      VARCHAR(255),
+    user_coin          INT          NOT NULL,
+    detail_preference  VARCHAR(255),
+    work_pace          VARCHAR(255),
+    character_name     VARCHAR(255),
+    character_file_url VARCHAR(255),
+    PRIMARY KEY (user_id)
+);
+
+CREATE TABLE project_tag (
+    project_tag_id   BIGINT NOT NULL AUTO_INCREMENT,
+    project_tag_name VARCHAR(255),
+    user_id          BIGINT NOT NULL,
+    PRIMARY KEY (project_tag_id),
+    CONSTRAINT fk_project_tag_user FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE
+);
+
+CREATE TABLE project (
+    project_id            BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id               BIGINT      NOT NULL,
+    project_tag_id        BIGINT      NOT NULL,
+    project_name          VARCHAR(255),
+    project_description   TEXT,
+    project_requirement   TEXT,
+    project_deadline      DATETIME(6),
+    project_expected_time INT,
+    project_level         INT,
+    project_coin          INT,
+    last_accessed_at      DATETIME(6) NOT NULL,
+    project_status        VARCHAR(255),
+    project_progress_rate INT,
+    PRIMARY KEY (project_id),
+    CONSTRAINT fk_project_user FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE,
+    CONSTRAINT fk_project_project_tag FOREIGN KEY (project_tag_id) REFERENCES project_tag (project_tag_id) ON DELETE CASCADE
+);
+
+CREATE TABLE sub_task (
+    sub_task_id            BIGINT  NOT NULL AUTO_INCREMENT,
+    sub_task_order         INT     NOT NULL,
+    sub_task_name          VARCHAR(255),
+    sub_task_expected_time INT,
+    sub_task_actual_time   INT,
+    sub_task_is_done       BOOLEAN NOT NULL,
+    sub_task_tag           VARCHAR(255),
+    project_id             BIGINT  NOT NULL,
+    PRIMARY KEY (sub_task_id),
+    CONSTRAINT fk_sub_task_project FOREIGN KEY (project_id) REFERENCES project (project_id) ON DELETE CASCADE
+);
+
+CREATE TABLE user_tag (
+    user_tag_id             BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id                 BIGINT       NOT NULL,
+    sub_task_tag            VARCHAR(255) NOT NULL,
+    actual_to_expected_rate FLOAT        NOT NULL,
+    PRIMARY KEY (user_tag_id),
+    CONSTRAINT fk_user_tag_user FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE
+);
+
+CREATE TABLE item (
+    item_id           BIGINT NOT NULL AUTO_INCREMENT,
+    item_name         VARCHAR(255),
+    item_image_url    VARCHAR(255),
+    item2d_image_url  VARCHAR(255),
+    PRIMARY KEY (item_id)
+);
+
+CREATE TABLE user_item (
+    user_item_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT NOT NULL,
+    item_id      BIGINT NOT NULL,
+    equipped_at  DATETIME(6),
+    PRIMARY KEY (user_item_id),
+    CONSTRAINT fk_user_item_user FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE,
+    CONSTRAINT fk_user_item_item FOREIGN KEY (item_id) REFERENCES item (item_id) ON DELETE CASCADE
+);
@@ -0,0 +1,22 @@
+-- 기기별 리프레시 토큰 저장소 (토큰 원문 대신 SHA-256 해시 저장)
+CREATE TABLE refresh_token (
+    refresh_token_id BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT      NOT NULL,
+    token_hash       CHAR(64)    NOT NULL,
+    family_id        VARCHAR(36) NOT NULL,
+    expires_at       DATETIME(6) NOT NULL,
+    created_at       DATETIME(6) NOT NULL,
+    rotated_at       DATETIME(6),
+    revoked          BOOLEAN     NOT NULL,
+    PRIMARY KEY (refresh_token_id),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_refresh_token_family ON refresh_token (family_id);
+CREATE INDEX idx_refresh_token_user ON refresh_token (user_id);
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token (expires_at);
+
+-- 기존 단일 토큰 컬럼 제거 (기존 세션은 한 번 다시 로그인 필요)
+DROP INDEX idx_users_refresh_token ON users;
+ALTER TABLE users DROP COLUMN refresh_token;
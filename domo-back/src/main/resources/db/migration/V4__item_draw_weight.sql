@@ -0,0 +1,7 @@
+-- 아이템별 뽑기 가중치 (0이면 뽑기 대상 아님)
+-- 규칙: 새 아이템은 기본 0(뽑기 제외)으로 들어오고, 뽑기에 넣을 아이템만 가중치를 직접 올린다.
+-- 저장소 동기화(ItemSyncRepository)로 추가되는 아이템도 이 기본값을 따른다.
+ALTER TABLE item ADD COLUMN draw_weight INT NOT NULL DEFAULT 0;
+
+-- 기존 뽑기 대상(1~12번, 기본 아이템인 9번 제외)만 켬
+UPDATE item SET draw_weight = 1 WHERE item_id BETWEEN 1 AND 12 AND item_id <> 9;
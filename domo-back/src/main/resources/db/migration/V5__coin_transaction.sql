@@ -0,0 +1,22 @@
+-- 코인 증감 원장 (추가 전용)
+CREATE TABLE coin_transaction (
+    coin_transaction_id BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id             BIGINT       NOT NULL,
+    amount              INT          NOT NULL,
+    balance_after       INT          NOT NULL,
+    type                VARCHAR(30)  NOT NULL,
+    idempotency_key     VARCHAR(100) NOT NULL,
+    reference_id        BIGINT,
+    created_at          DATETIME(6)  NOT NULL,
+    PRIMARY KEY (coin_transaction_id),
+    CONSTRAINT uk_coin_transaction_idempotency_key UNIQUE (idempotency_key),
+    CONSTRAINT fk_coin_transaction_user FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_coin_transaction_user_created ON coin_transaction (user_id, created_at);
+
+-- 기존 보유 코인을 시작 잔액으로 기록해서 원장 합계와 잔액을 맞춤
+INSERT INTO coin_transaction (user_id, amount, balance_after, type, idempotency_key, reference_id, created_at)
+SELECT user_id, user_coin, user_coin, 'OPENING_BALANCE', CONCAT('opening-balance:', user_id), NULL, CURRENT_TIMESTAMP
+FROM users
+WHERE user_coin <> 0;
@@ -0,0 +1,3 @@
+-- 저장소 동기화 시 바뀐 파일만 반영하기 위한 ETag
+ALTER TABLE item ADD COLUMN item_image_etag VARCHAR(255);
+ALTER TABLE item ADD COLUMN item2d_image_etag VARCHAR(255);
@@ -0,0 +1,81 @@
+package next.domo.file.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ItemDrawTableTest {
+
+    private static final int DRAWS = 200_000;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Test
+    void 가중치_비율대로_뽑고_가중치_0은_제외() {
+        double[] frequencies = frequencies(new int[]{1, 0, 3, 4}, new BitSet());
+
+        assertThat(frequencies[0]).isCloseTo(1 / 8.0, within(0.01));
+        assertThat(frequencies[1]).isZero();
+        assertThat(frequencies[2]).isCloseTo(3 / 8.0, within(0.01));
+        assertThat(frequencies[3]).isCloseTo(4 / 8.0, within(0.01));
+    }
+
+    @Test
+    void 보유_아이템을_빼고_남은_가중치_비율대로_뽑음() {
+        BitSet owned = new BitSet();
+        owned.set(0);
+
+        double[] frequencies = frequencies(new int[]{1, 1, 2}, owned);
+
+        assertThat(frequencies[0]).isZero();
+        assertThat(frequencies[1]).isCloseTo(1 / 3.0, within(0.01));
+        assertThat(frequencies[2]).isCloseTo(2 / 3.0, within(0.01));
+    }
+
+    @Test
+    void 거의_다_보유했으면_남은_후보에서_직접_선택() {
+        // 남은 후보의 선택 확률이 매우 낮아 재시도로는 거의 뽑히지 않는 경우
+        ItemDrawTable table = ItemDrawTable.of(new int[]{1_000_000, 1});
+        BitSet owned = new BitSet();
+        owned.set(0);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(table.draw(random, owned)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void 뽑을_후보가_없으면_음수() {
+        BitSet owned = new BitSet();
+        owned.set(0, 2);
+
+        assertThat(ItemDrawTable.of(new int[0]).draw(random, new BitSet())).isEqualTo(-1);
+        assertThat(ItemDrawTable.of(new int[]{0, 0}).draw(random, new BitSet())).isEqualTo(-1);
+        assertThat(ItemDrawTable.of(new int[]{1, 2, 0}).draw(random, owned)).isEqualTo(-1);
+    }
+
+    @Test
+    void 만든_뒤_원본_배열이_바뀌어도_영향_없음() {
+        int[] weights = {0, 1};
+        ItemDrawTable table = ItemDrawTable.of(weights);
+        weights[0] = 1;
+        weights[1] = 0;
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(table.draw(random, new BitSet())).isEqualTo(1);
+        }
+    }
+
+    private double[] frequencies(int[] weights, BitSet owned) {
+        ItemDrawTable table = ItemDrawTable.of(weights);
+        double[] frequencies = new double[weights.length];
+        for (int i = 0; i < DRAWS; i++) {
+            frequencies[table.draw(random, owned)] += 1.0 / DRAWS;
+        }
+        return frequencies;
+    }
+}
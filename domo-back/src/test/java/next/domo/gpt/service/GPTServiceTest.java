@@ -0,0 +1,121 @@
+package next.domo.gpt.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import next.domo.gpt.client.StubCompletionProvider;
+import next.domo.gpt.client.StubModelServer;
+import next.domo.project.entity.Project;
+import next.domo.project.entity.ProjectLevelType;
+import next.domo.project.repository.ProjectRepository;
+import next.domo.project.service.ProjectService;
+import next.domo.subtask.repository.SubTaskRepository;
+import next.domo.user.entity.User;
+import next.domo.user.enums.TaskDetailPreference;
+import next.domo.user.repository.UserRepository;
+import next.domo.user.repository.UserTagRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// ai.provider=stub 구성(내장 스텁 서버 + 스텁 제공자)으로 네트워크 없이 GPT 실패 시 로컬 추정 대체를 확인
+class GPTServiceTest {
+
+    private static final long PROJECT_ID = 1L;
+    private static final long USER_ID = 1L;
+    private static final long TIMEOUT_SECONDS = 1;
+    // GPTService 대기 시간보다 긴 스텁 응답 지연
+    private static final long SLOW_LATENCY_MILLIS = 3000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private StubModelServer stubModelServer;
+
+    @AfterEach
+    void tearDown() {
+        if (stubModelServer != null) {
+            stubModelServer.stop();
+        }
+    }
+
+    @Test
+    void 스텁_응답을_그대로_사용() throws IOException {
+        GPTService gptService = createService(0, true);
+
+        // 로컬 추정이면 상이 나오는 프로젝트라 스텁 응답(중)과 구분됨
+        assertThat(gptService.predictProjectLevelByGPT(PROJECT_ID)).isEqualTo(ProjectLevelType.중);
+    }
+
+    @Test
+    void 시간_초과면_로컬_추정_난이도로_대체() throws IOException {
+        GPTService gptService = createService(SLOW_LATENCY_MILLIS, true);
+
+        assertThat(gptService.predictProjectLevelByGPT(PROJECT_ID)).isEqualTo(ProjectLevelType.상);
+    }
+
+    @Test
+    void 호출_오류면_로컬_추정_난이도로_대체() throws IOException {
+        GPTService gptService = createService(0, true);
+        // 스텁 서버를 내려서 연결 오류 발생
+        stubModelServer.stop();
+        stubModelServer = null;
+
+        assertThat(gptService.predictProjectLevelByGPT(PROJECT_ID)).isEqualTo(ProjectLevelType.상);
+    }
+
+    @Test
+    void 대체가_꺼져_있으면_실패를_그대로_전달() throws IOException {
+        GPTService gptService = createService(SLOW_LATENCY_MILLIS, false);
+
+        assertThatThrownBy(() -> gptService.predictProjectLevelByGPT(PROJECT_ID))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("GPT 난이도 예측 실패");
+    }
+
+    @Test
+    void 시간_초과면_로컬_추정_하위작업으로_대체() throws IOException {
+        GPTService gptService = createService(SLOW_LATENCY_MILLIS, true);
+
+        JsonNode subTaskList = objectMapper.readTree(gptService.createSubTaskByGPT(USER_ID, PROJECT_ID)).path("subTaskList");
+
+        // 스텁 응답은 6개, 로컬 추정(FEW_TASKS)은 5개
+        assertThat(subTaskList.size()).isEqualTo(5);
+        assertThat(subTaskList.get(0).path("subTaskName").asText()).isEqualTo("목표와 요구사항 정리");
+    }
+
+    private GPTService createService(long latencyMillis, boolean fallbackEnabled) throws IOException {
+        stubModelServer = new StubModelServer(objectMapper, 0, latencyMillis, 0, 4);
+        stubModelServer.start();
+        StubCompletionProvider provider = new StubCompletionProvider(stubModelServer, WebClient.builder(), meterRegistry, objectMapper);
+
+        // 마감이 지났고 예상 시간이 긴 프로젝트 (로컬 추정: 상)
+        Project project = Project.builder()
+                .projectId(PROJECT_ID)
+                .projectName("발표 준비")
+                .projectDeadline(LocalDateTime.now().minusDays(1))
+                .projectExpectedTime(3000)
+                .build();
+        User user = User.builder()
+                .userId(USER_ID)
+                .detailPreference(TaskDetailPreference.FEW_TASKS)
+                .build();
+        when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.of(project));
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+
+        return new GPTService(provider, TIMEOUT_SECONDS, mock(UserTagRepository.class), userRepository, projectRepository,
+                mock(SubTaskRepository.class), new GptResultCache(meterRegistry, 100, 60), mock(ProjectService.class),
+                new LocalProjectEstimator(), objectMapper, 20, 3, fallbackEnabled);
+    }
+}
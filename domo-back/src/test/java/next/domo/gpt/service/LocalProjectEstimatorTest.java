@@ -0,0 +1,133 @@
+package next.domo.gpt.service;
+
+import next.domo.gpt.dto.GptSubTaskDto;
+import next.domo.project.entity.Project;
+import next.domo.project.entity.ProjectLevelType;
+import next.domo.subtask.entity.SubTaskTag;
+import next.domo.user.entity.User;
+import next.domo.user.enums.TaskDetailPreference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalProjectEstimatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 9, 0);
+    // 모든 세분화 선호도에서 템플릿 가중치 합(9, 21, 33)으로 나눠떨어지고 5분 단위가 되는 예상 시간
+    private static final int DIVISIBLE_BUDGET = 3465;
+
+    private final LocalProjectEstimator estimator = new LocalProjectEstimator();
+
+    @Test
+    void 정보가_없으면_하() {
+        assertThat(estimator.estimateLevel(project(null, null, null), NOW)).isEqualTo(ProjectLevelType.하);
+    }
+
+    @Test
+    void 마감이_지났거나_지금이면_마감_압박_2점() {
+        assertThat(estimator.estimateLevel(project(NOW, 0, null), NOW)).isEqualTo(ProjectLevelType.중);
+        assertThat(estimator.estimateLevel(project(NOW.minusDays(1), 0, null), NOW)).isEqualTo(ProjectLevelType.중);
+        // 마감 압박 2점 + 예상 시간 600분 1점
+        assertThat(estimator.estimateLevel(project(NOW.minusMinutes(1), 600, null), NOW)).isEqualTo(ProjectLevelType.상);
+    }
+
+    @Test
+    void 남은_시간_대비_예상_시간_비율_기준() {
+        // 100분 / 남은 시간
+        assertThat(estimator.estimateLevel(project(NOW.plusMinutes(501), 100, null), NOW)).isEqualTo(ProjectLevelType.하);
+        assertThat(estimator.estimateLevel(project(NOW.plusMinutes(500), 100, null), NOW)).isEqualTo(ProjectLevelType.중);
+        // 0.5 이상이면 2점, 요구사항 1점을 더하면 상
+        assertThat(estimator.estimateLevel(project(NOW.plusMinutes(201), 100, longRequirement(300)), NOW)).isEqualTo(ProjectLevelType.중);
+        assertThat(estimator.estimateLevel(project(NOW.plusMinutes(200), 100, longRequirement(300)), NOW)).isEqualTo(ProjectLevelType.상);
+    }
+
+    @Test
+    void 예상_시간_기준() {
+        assertThat(estimator.estimateLevel(project(null, 599, null), NOW)).isEqualTo(ProjectLevelType.하);
+        assertThat(estimator.estimateLevel(project(null, 600, null), NOW)).isEqualTo(ProjectLevelType.중);
+        // 3000분 이상은 2점이라 요구사항 1점을 더하면 상
+        assertThat(estimator.estimateLevel(project(null, 2999, longRequirement(300)), NOW)).isEqualTo(ProjectLevelType.중);
+        assertThat(estimator.estimateLevel(project(null, 3000, longRequirement(300)), NOW)).isEqualTo(ProjectLevelType.상);
+    }
+
+    @Test
+    void 요구사항_길이_기준은_앞뒤_공백_제외() {
+        assertThat(estimator.estimateLevel(project(null, null, longRequirement(299)), NOW)).isEqualTo(ProjectLevelType.하);
+        assertThat(estimator.estimateLevel(project(null, null, "  " + longRequirement(299) + "  "), NOW)).isEqualTo(ProjectLevelType.하);
+        assertThat(estimator.estimateLevel(project(null, null, longRequirement(300)), NOW)).isEqualTo(ProjectLevelType.중);
+    }
+
+    @Test
+    void 세분화_선호도별_하위작업_개수() {
+        assertThat(estimateSubTasks(TaskDetailPreference.FEW_TASKS, DIVISIBLE_BUDGET, Map.of())).hasSize(5);
+        assertThat(estimateSubTasks(TaskDetailPreference.BALANCED_TASKS, DIVISIBLE_BUDGET, Map.of())).hasSize(9);
+        assertThat(estimateSubTasks(TaskDetailPreference.MANY_TASKS, DIVISIBLE_BUDGET, Map.of())).hasSize(13);
+        // 선호도가 없으면 중간 정도
+        assertThat(estimateSubTasks(null, DIVISIBLE_BUDGET, Map.of())).hasSize(9);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TaskDetailPreference.class)
+    void 소요율_100퍼센트면_예상_시간을_그대로_나눔(TaskDetailPreference preference) {
+        List<GptSubTaskDto> subTasks = estimateSubTasks(preference, DIVISIBLE_BUDGET, Map.of());
+
+        assertThat(subTasks).extracting(GptSubTaskDto::getSubTaskOrder)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, subTasks.size()).boxed().toList());
+        assertThat(subTasks.stream().mapToInt(GptSubTaskDto::getSubTaskExpectedTime).sum()).isEqualTo(DIVISIBLE_BUDGET);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TaskDetailPreference.class)
+    void 태그별_소요율만큼_해당_태그_작업만_늘어남(TaskDetailPreference preference) {
+        Map<SubTaskTag, Integer> rates = new EnumMap<>(SubTaskTag.class);
+        rates.put(SubTaskTag.DEVELOPMENT, 200);
+
+        List<GptSubTaskDto> base = estimateSubTasks(preference, DIVISIBLE_BUDGET, Map.of());
+        List<GptSubTaskDto> scaled = estimateSubTasks(preference, DIVISIBLE_BUDGET, rates);
+
+        for (int i = 0; i < base.size(); i++) {
+            int factor = base.get(i).getSubTaskTag() == SubTaskTag.DEVELOPMENT ? 2 : 1;
+            assertThat(scaled.get(i).getSubTaskExpectedTime()).isEqualTo(base.get(i).getSubTaskExpectedTime() * factor);
+        }
+    }
+
+    @Test
+    void 예상_시간은_5분_단위이고_최소_10분() {
+        Map<SubTaskTag, Integer> rates = new EnumMap<>(SubTaskTag.class);
+        rates.put(SubTaskTag.PLANNING_STRATEGY, 10);
+
+        // 예상 시간이 없으면 난이도(하) 기본 시간 240분 사용
+        List<GptSubTaskDto> subTasks = estimateSubTasks(TaskDetailPreference.FEW_TASKS, null, rates);
+
+        assertThat(subTasks).allSatisfy(subTask -> assertThat(subTask.getSubTaskExpectedTime() % 5).isZero());
+        assertThat(subTasks.get(0).getSubTaskTag()).isEqualTo(SubTaskTag.PLANNING_STRATEGY);
+        assertThat(subTasks.get(0).getSubTaskExpectedTime()).isEqualTo(10);
+        // 240 * 3 / 9 = 80
+        assertThat(subTasks.get(2).getSubTaskExpectedTime()).isEqualTo(80);
+    }
+
+    private List<GptSubTaskDto> estimateSubTasks(TaskDetailPreference preference, Integer expectedMinutes, Map<SubTaskTag, Integer> rates) {
+        User user = User.builder().detailPreference(preference).build();
+        return estimator.estimateSubTasks(user, project(null, expectedMinutes, null), rates, NOW);
+    }
+
+    private Project project(LocalDateTime deadline, Integer expectedMinutes, String requirement) {
+        return Project.builder()
+                .projectDeadline(deadline)
+                .projectExpectedTime(expectedMinutes)
+                .projectRequirement(requirement)
+                .build();
+    }
+
+    private String longRequirement(int length) {
+        return "가".repeat(length);
+    }
+}